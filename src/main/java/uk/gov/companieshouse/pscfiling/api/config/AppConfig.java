@@ -4,8 +4,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import java.text.SimpleDateFormat;
 import java.time.Clock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -16,6 +18,10 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
  */
 @Configuration
 public class AppConfig {
+
+    @Value("${feature.flag.json.blackbird:false}")
+    private boolean blackbirdEnabled;
+
     /**
      * Obtains a clock that returns the current instant, converting to date and time using the
      * UTC time-zone. Singleton bean provides consistent UTC timestamps.
@@ -27,13 +33,25 @@ public class AppConfig {
         return Clock.systemUTC();
     }
 
+    /**
+     * Builds the mapper for request and response bodies. When the Blackbird feature flag is set,
+     * properties are read and written through generated accessors instead of reflection; the
+     * JSON is unchanged.
+     *
+     * @return the object mapper builder
+     */
     @Bean
     public Jackson2ObjectMapperBuilder objectMapperBuilder() {
-        return new Jackson2ObjectMapperBuilder().serializationInclusion(
+        final var builder = new Jackson2ObjectMapperBuilder().serializationInclusion(
                 JsonInclude.Include.NON_NULL)
             .simpleDateFormat("yyyy-MM-dd")
             .failOnUnknownProperties(true) // override Spring Boot default (false)
             .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        if (blackbirdEnabled) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        return builder;
     }
 
     @Bean("postObjectMapper")
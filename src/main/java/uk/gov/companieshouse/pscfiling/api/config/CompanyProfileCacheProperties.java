@@ -0,0 +1,57 @@
+package uk.gov.companieshouse.pscfiling.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "company.profile.cache")
+public class CompanyProfileCacheProperties {
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofMinutes(1);
+    private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+    private Duration staleIfError = Duration.ofHours(1);
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(final long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return how long a retrieved profile is served without revalidation
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(final Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return how long after the time to live a profile is served while it is refreshed in the
+     *         background
+     */
+    public Duration getStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    public void setStaleWhileRevalidate(final Duration staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * @return how long after the time to live a profile is served when the company profile API
+     *         cannot be reached
+     */
+    public Duration getStaleIfError() {
+        return staleIfError;
+    }
+
+    public void setStaleIfError(final Duration staleIfError) {
+        this.staleIfError = staleIfError;
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.context.annotation.Configuration;
 public class FilingDataConfig {
     @Value("${filing.data.description.psc07}")
     private String psc07Description;
+    @Value("${filing.data.generation.max-concurrency:4}")
+    private int maxConcurrentGenerations = 4;
 
     public void setPsc07Description(String psc07Description) {
         this.psc07Description = psc07Description;
@@ -18,4 +20,15 @@ public class FilingDataConfig {
     public String getPsc07Description() {
         return psc07Description;
     }
+
+    public void setMaxConcurrentGenerations(int maxConcurrentGenerations) {
+        this.maxConcurrentGenerations = maxConcurrentGenerations;
+    }
+
+    /**
+     * @return the most filings of one transaction to generate filing data for at the same time
+     */
+    public int getMaxConcurrentGenerations() {
+        return maxConcurrentGenerations;
+    }
 }
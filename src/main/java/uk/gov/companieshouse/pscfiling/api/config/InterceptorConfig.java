@@ -31,6 +31,8 @@ public class InterceptorConfig implements WebMvcConfigurer {
             COMMON_INTERCEPTOR_PATH + "/{filing_resource_id}";
     public static final String FILINGS_PATH =
             "/private" + COMMON_INTERCEPTOR_RESOURCE_PATH + "/filings";
+    public static final String TRANSACTION_FILINGS_PATH =
+            "/private/transactions/{transaction_id}/persons-with-significant-control/filings";
     private static final String PSC_FILING_API = "psc-filing-api";
 
     private TokenPermissionsInterceptor tokenPermissionsInterceptor;
@@ -103,12 +105,14 @@ public class InterceptorConfig implements WebMvcConfigurer {
 
     private void addInternalUserInterceptor(final InterceptorRegistry registry) {
         registry.addInterceptor(internalUserInterceptor)
-                .addPathPatterns(FILINGS_PATH).order(6);
+                .addPathPatterns(FILINGS_PATH, TRANSACTION_FILINGS_PATH).order(6);
     }
 
     private void addTransactionClosedInterceptor(final InterceptorRegistry registry) {
         registry.addInterceptor(transactionClosedInterceptor())
                 .addPathPatterns(FILINGS_PATH).order(7);
+        registry.addInterceptor(transactionFilingsClosedInterceptor())
+                .addPathPatterns(TRANSACTION_FILINGS_PATH).order(7);
     }
 
     private void addRequestLoggingInterceptor(InterceptorRegistry registry) {
@@ -130,6 +134,11 @@ public class InterceptorConfig implements WebMvcConfigurer {
         return new ClosedTransactionInterceptor(FILINGS_PATH);
     }
 
+    @Bean
+    public ClosedTransactionInterceptor transactionFilingsClosedInterceptor() {
+        return new ClosedTransactionInterceptor(TRANSACTION_FILINGS_PATH);
+    }
+
     @Bean
     public MappablePermissionsInterceptor requestPermissionsInterceptor(
             final PermissionsMapping permissionMapping) {
@@ -0,0 +1,22 @@
+package uk.gov.companieshouse.pscfiling.api.config;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.pscfiling.api.repository.codec.PscFilingCodecProvider;
+
+/**
+ * Registers the PSC filing codecs with the Mongo client, ahead of the driver defaults.
+ */
+@Configuration
+public class MongoCodecConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer pscFilingCodecCustomizer() {
+        return settings -> settings.codecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromProviders(new PscFilingCodecProvider()),
+                MongoClientSettings.getDefaultCodecRegistry()));
+    }
+}
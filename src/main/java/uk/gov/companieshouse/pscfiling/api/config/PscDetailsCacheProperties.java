@@ -0,0 +1,28 @@
+package uk.gov.companieshouse.pscfiling.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "psc.details.cache")
+public class PscDetailsCacheProperties {
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(final long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(final Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
@@ -33,4 +33,20 @@ public interface FilingDataController {
                                            HttpServletRequest request){
         throw new NotImplementedException();
     }
+
+    /**
+     * Controller endpoint: retrieve Filing Data for every PSC filing in a transaction.
+     *
+     * @param transId       the transaction ID
+     * @param transaction    the Transaction
+     * @param request        the servlet request
+     * @throws NotImplementedException implementing classes must perform work
+     */
+    @GetMapping
+    default List<FilingApi> getTransactionFilingsData(
+            @PathVariable("transactionId") final String transId,
+            @RequestAttribute("transaction") Transaction transaction,
+            HttpServletRequest request) {
+        throw new NotImplementedException();
+    }
 }
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.pscfiling.api.controller;
 
-import java.util.Map;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -42,6 +43,25 @@ public interface PscIndividualFilingController {
         throw new NotImplementedException();
     }
 
+    /**
+     * Create several PSC Filings for Individuals in one request.
+     * @param transId       the transaction ID
+     * @param pscType       the PSC type
+     * @param transaction   the Transaction
+     * @param dtos          the request body payload DTOs
+     * @param request       the servlet request
+     * @throws NotImplementedException implementing classes must perform work
+     */
+    @PostMapping
+    default ResponseEntity<List<PscIndividualFiling>> createFilings(
+            @PathVariable("transactionId") final String transId,
+            @PathVariable("pscType") final PscTypeConstants pscType,
+            @RequestAttribute("transaction") Transaction transaction,
+            @RequestBody @NotNull final List<PscIndividualDto> dtos,
+            final HttpServletRequest request) {
+        throw new NotImplementedException();
+    }
+
     /**
      * Update a PSC Individual Filing resource by applying a JSON merge-patch.
      *
@@ -57,7 +77,7 @@ public interface PscIndividualFilingController {
     default ResponseEntity<PscIndividualFiling> updateFiling(
             @PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType, @PathVariable("filingResource") String filingResource,
-            @RequestBody final @NotNull Map<String, Object> mergePatch, final HttpServletRequest request) {
+            @RequestBody final @NotNull ObjectNode mergePatch, final HttpServletRequest request) {
         throw new NotImplementedException();
     }
 
@@ -69,7 +89,7 @@ public interface PscIndividualFilingController {
      * @throws NotImplementedException implementing classes must perform work
      */
     @GetMapping
-    default ResponseEntity<PscIndividualFiling> getFilingForReview(
+    default ResponseEntity<byte[]> getFilingForReview(
             @PathVariable("transactionId") String transId,
             @PathVariable("pscType") final PscTypeConstants pscType,
             @PathVariable("filingResource") String filingResource,
@@ -1,6 +1,6 @@
 package uk.gov.companieshouse.pscfiling.api.controller;
 
-import java.util.Map;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -59,7 +59,7 @@ public interface PscWithIdentificationFilingController {
     default ResponseEntity<PscWithIdentificationFiling> updateFiling(
             @PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType, @PathVariable("filingResource") String filingResource,
-            @RequestBody final @NotNull Map<String, Object> mergePatch, final HttpServletRequest request) {
+            @RequestBody final @NotNull ObjectNode mergePatch, final HttpServletRequest request) {
         throw new NotImplementedException();
     }
 
@@ -73,7 +73,7 @@ public interface PscWithIdentificationFilingController {
      * @throws NotImplementedException implementing classes must perform work
      */
     @GetMapping
-    default ResponseEntity<PscWithIdentificationFiling> getFilingForReview(
+    default ResponseEntity<byte[]> getFilingForReview(
             @PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType,
             @PathVariable("filingResource") final String filingResource,
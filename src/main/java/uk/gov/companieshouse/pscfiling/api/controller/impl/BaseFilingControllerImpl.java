@@ -3,18 +3,27 @@ package uk.gov.companieshouse.pscfiling.api.controller.impl;
 import java.time.Clock;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.Errors;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidFilingException;
 import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
@@ -62,6 +71,92 @@ public class BaseFilingControllerImpl {
         return request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
     }
 
+    /**
+     * Answer a conditional GET for a filing from its stored etag alone, before the filing is
+     * read in full.
+     *
+     * @param transId  the Transaction ID
+     * @param filingId the Filing ID
+     * @param request  the servlet request, with any If-None-Match header
+     * @return NOT_MODIFIED response if the client copy of the filing is current
+     */
+    protected Optional<ResponseEntity<byte[]>> checkNotModified(final String transId,
+            final String filingId, final HttpServletRequest request) {
+        final var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        return pscFilingService.getSummary(filingId, transId)
+                .filter(s -> pscFilingService.requestMatchesResourceSelf(request, s))
+                .filter(s -> entityTagMatches(ifNoneMatch, s.etag(), true))
+                .map(s -> withEtag(ResponseEntity.status(HttpStatus.NOT_MODIFIED), s.etag())
+                        .build());
+    }
+
+    /**
+     * Build an OK response with the filing JSON and its etag as a strong entity tag.
+     *
+     * @param etag the filing etag; null only for filings stored before etags were assigned on
+     *             insert
+     * @param json the filing JSON
+     * @return OK response containing the filing JSON
+     */
+    protected static ResponseEntity<byte[]> createJsonResponse(final String etag,
+            final byte[] json) {
+        return withEtag(ResponseEntity.ok(), etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    /**
+     * Check the If-Match header of an update against the stored filing etag.
+     *
+     * @param filing  the stored filing
+     * @param request the servlet request, with any If-Match header
+     * @return true if the update must only be made while the filing has the same etag
+     * @throws FilingPreconditionFailedException if the If-Match header does not have the filing
+     *                                           etag
+     */
+    protected static boolean checkIfMatch(final PscCommunal filing,
+            final HttpServletRequest request) {
+        final var ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+
+        if (ifMatch == null || "*".equals(ifMatch.trim())) {
+            return false;
+        }
+        // If-Match uses the strong comparison
+        if (!entityTagMatches(ifMatch, filing.getEtag(), false)) {
+            throw new FilingPreconditionFailedException(filing.getId());
+        }
+        return true;
+    }
+
+    /**
+     * @param etag the filing etag
+     * @return the etag as a strong entity tag
+     */
+    protected static String entityTag(final String etag) {
+        return "\"" + etag + "\"";
+    }
+
+    private static ResponseEntity.BodyBuilder withEtag(final ResponseEntity.BodyBuilder builder,
+            final String etag) {
+        return etag == null ? builder : builder.eTag(entityTag(etag));
+    }
+
+    /**
+     * Match a conditional header against the filing etag. "*" matches any filing, including one
+     * stored before etags were assigned on insert.
+     */
+    private static boolean entityTagMatches(final String header, final String etag,
+            final boolean weak) {
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .map(tag -> weak ? StringUtils.removeStart(tag, "W/") : tag)
+                .anyMatch(tag -> "*".equals(tag) || etag != null && entityTag(etag).equals(tag));
+    }
+
     /**
      * Retrieves the transaction resource
      *
@@ -88,13 +183,27 @@ public class BaseFilingControllerImpl {
      *
      */
     protected void updateTransactionResources(Transaction transaction, Links links) {
-        final var resourceMap = buildResourceMap(links);
+        updateTransactionResources(transaction, List.of(links));
+    }
+
+    /**
+     * Updates the transaction resource with several filings in one update
+     *
+     * @param transaction       the transaction resource.
+     * @param linksList         the links of each filing, providing resource uri and validation
+     *                          status links
+     *
+     */
+    protected void updateTransactionResources(Transaction transaction,
+            final List<Links> linksList) {
+        final Map<String, Resource> resourceMap = new HashMap<>();
+
+        linksList.forEach(links -> resourceMap.put(links.self().toString(), buildResource(links)));
         transaction.setResources(resourceMap);
         transactionService.updateTransaction(transaction);
     }
 
-    private Map<String, Resource> buildResourceMap(final Links links) {
-        final Map<String, Resource> resourceMap = new HashMap<>();
+    private Resource buildResource(final Links links) {
         final var resource = new Resource();
         final var linksMap = new HashMap<>(
                 Map.of("resource", links.self().toString(), VALIDATION_STATUS,
@@ -103,8 +212,7 @@ public class BaseFilingControllerImpl {
         resource.setKind("psc-filing");
         resource.setLinks(linksMap);
         resource.setUpdatedAt(clock.instant().atZone(ZoneId.systemDefault()).toLocalDateTime());
-        resourceMap.put(links.self().toString(), resource);
-        return resourceMap;
+        return resource;
     }
 
 }
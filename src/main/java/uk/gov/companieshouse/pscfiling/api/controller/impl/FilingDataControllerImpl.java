@@ -17,9 +17,7 @@ import uk.gov.companieshouse.pscfiling.api.utils.LogHelper;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
 @RestController
-@RequestMapping(
-        "/private/transactions/{transactionId}/persons-with-significant-control/{pscType:"
-                + "(?:individual|corporate-entity|legal-person)}")
+@RequestMapping("/private/transactions/{transactionId}/persons-with-significant-control")
 public class FilingDataControllerImpl implements FilingDataController {
     private final FilingDataService filingDataService;
     private final Logger logger;
@@ -42,7 +40,8 @@ public class FilingDataControllerImpl implements FilingDataController {
      * @return List of FilingApi resources
      */
     @Override
-    @GetMapping(value = "/{filingResourceId}/filings", produces = {"application/json"})
+    @GetMapping(value = "/{pscType:(?:individual|corporate-entity|legal-person)}"
+            + "/{filingResourceId}/filings", produces = {"application/json"})
     public List<FilingApi> getFilingsData(@PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType,
             @PathVariable("filingResourceId") final String filingResource,
@@ -68,4 +67,37 @@ public class FilingDataControllerImpl implements FilingDataController {
         return List.of(filingApi);
     }
 
-}
\ No newline at end of file
+    /**
+     * Controller endpoint: retrieve Filing Data for every PSC filing in a transaction, in one
+     * call.
+     *
+     * @param transId       the transaction ID
+     * @param transaction    the Transaction
+     * @param request        the servlet request
+     * @return List of FilingApi resources, one per PSC filing in the transaction
+     */
+    @Override
+    @GetMapping(value = "/filings", produces = {"application/json"})
+    public List<FilingApi> getTransactionFilingsData(
+            @PathVariable("transactionId") final String transId,
+            @RequestAttribute("transaction") final Transaction transaction,
+            final HttpServletRequest request) {
+
+        final var logMap = LogHelper.createLogMap(transId);
+
+        logger.debugRequest(request,
+                "GET /private/transactions/{transactionId}/persons-with-significant-control"
+                        + "/filings", logMap);
+
+        final var passthroughHeader =
+                request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
+
+        final var filings = filingDataService.generatePscFilings(transaction, passthroughHeader);
+
+        logMap.put("psc filings:", filings);
+        logger.infoContext(transId, "psc filings data", logMap);
+
+        return filings;
+    }
+
+}
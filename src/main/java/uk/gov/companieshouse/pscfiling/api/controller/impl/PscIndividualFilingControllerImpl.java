@@ -1,20 +1,27 @@
 package uk.gov.companieshouse.pscfiling.api.controller.impl;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.UUID;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotNull;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -30,13 +37,16 @@ import uk.gov.companieshouse.patch.model.PatchResult;
 import uk.gov.companieshouse.pscfiling.api.controller.PscIndividualFilingController;
 import uk.gov.companieshouse.pscfiling.api.error.RetrievalFailureReason;
 import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscfiling.api.exception.InvalidBulkFilingException;
+import uk.gov.companieshouse.pscfiling.api.exception.InvalidFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidPatchException;
 import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.dto.PscIndividualDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
-import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
@@ -52,15 +62,25 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
     private static final String STATUS_MSG = "status";
     private static final String PATCH_FAILED = "patch failed";
     private static final String ERROR_MSG = "error";
+    private static final String BULK_PATH = "/bulk";
 
     private final PscIndividualFilingService pscIndividualFilingService;
+    private final SpringValidatorAdapter validator;
+    private final FilingResponseCache filingResponseCache;
+    private final int maxBulkItems;
 
     public PscIndividualFilingControllerImpl(final TransactionService transactionService,
         final PscFilingService pscFilingService,
         final PscIndividualFilingService pscIndividualFilingService,
-        final PscMapper filingMapper, final Clock clock, final Logger logger) {
+        final PscMapper filingMapper, final Validator validator,
+        final FilingResponseCache filingResponseCache,
+        @Value("${filing.bulk.max-items:100}") final int maxBulkItems, final Clock clock,
+        final Logger logger) {
         super(transactionService, pscFilingService, filingMapper, clock, logger);
         this.pscIndividualFilingService = pscIndividualFilingService;
+        this.validator = new SpringValidatorAdapter(validator);
+        this.filingResponseCache = filingResponseCache;
+        this.maxBulkItems = maxBulkItems;
     }
 
     /**
@@ -92,13 +112,71 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
         transaction = getTransaction(transId, transaction, logMap, getPassthroughHeader(request));
 
         final var entity = filingMapper.map(dto);
-        final var savedEntity = saveFilingWithLinks(entity, transId, request, logMap);
+        final var savedEntity = saveFilingWithLinks(entity, transId, transaction, request, logMap);
         updateTransactionResources(transaction, savedEntity.getLinks());
 
         return ResponseEntity.created(savedEntity.getLinks().self())
                 .body(savedEntity);
     }
 
+    /**
+     * Create several PSC Filings in one request.
+     * <p>
+     * The request must hold between one and {@code filing.bulk.max-items} DTOs. Every DTO is
+     * validated before anything is stored: if any is missing or invalid, nothing is created and
+     * the errors are reported against the position of each invalid item in the request.
+     * Otherwise the filings are stored with one bulk insert and added to the transaction with
+     * one update.
+     * </p>
+     *
+     * @param transId       the transaction ID
+     * @param pscType       the PSC type
+     * @param transaction   the Transaction
+     * @param dtos          the request body payload DTOs
+     * @param request       the servlet request
+     * @return CREATED response containing the populated Filing resources, in request order
+     */
+    @Override
+    @Transactional
+    @PostMapping(value = BULK_PATH, produces = {"application/json"},
+            consumes = {"application/json"})
+    public ResponseEntity<List<PscIndividualFiling>> createFilings(
+            @PathVariable("transactionId") final String transId,
+            @PathVariable("pscType") final PscTypeConstants pscType,
+            @RequestAttribute(required = false, name = "transaction") Transaction transaction,
+            @RequestBody @NotNull final List<PscIndividualDto> dtos,
+            final HttpServletRequest request) {
+
+        final var logMap = LogHelper.createLogMap(transId);
+
+        logger.debugRequest(request, "POST", logMap);
+
+        checkBulkSize(dtos);
+        checkBulkBindingErrors(dtos);
+
+        transaction = getTransaction(transId, transaction, logMap, getPassthroughHeader(request));
+
+        final var companyNumber = transaction.getCompanyNumber();
+        final var filingsUri = StringUtils.removeEnd(request.getRequestURI(), BULK_PATH);
+        final var now = clock.instant();
+        final var entities = dtos.stream()
+                .map(dto -> withIdAndLinks(filingMapper.map(dto), transId, companyNumber,
+                        filingsUri, now))
+                .toList();
+
+        logger.debugContext(transId, "saving PSC filings", logMap);
+
+        final var savedEntities = pscIndividualFilingService.insertAll(entities);
+
+        logMap.put("filing_ids", savedEntities.stream().map(PscIndividualFiling::getId).toList());
+        logger.infoContext(transId, "Filings saved", logMap);
+
+        updateTransactionResources(transaction,
+                savedEntities.stream().map(PscIndividualFiling::getLinks).toList());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedEntities);
+    }
+
     /**
      * Update a PSC Individual Filing resource by applying a JSON merge-patch.
      *
@@ -107,7 +185,8 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
      * @param filingResource the Filing resource ID (RFC 7396)
      * @param mergePatch     details of the merge-patch to apply
      * @param request        the servlet request
-     * @return OK response containing the populated Filing resource
+     * @return OK response containing the populated Filing resource, or PRECONDITION_FAILED if
+     *         the If-Match header does not have the current Filing etag
      */
     @SuppressWarnings("unchecked")
     // Patch Validator will add List<FieldError> object to PatchResult
@@ -119,14 +198,17 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
             @PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType,
             @PathVariable("filingResourceId") final String filingResource,
-            @RequestBody final @NotNull Map<String, Object> mergePatch,
+            @RequestBody final @NotNull ObjectNode mergePatch,
             final HttpServletRequest request) {
 
         final var logMap = LogHelper.createLogMap(transId);
-        final var patchResult = pscFilingService.get(filingResource).filter(
+        final var result = pscIndividualFilingService.get(filingResource).filter(
             f1 -> pscFilingService.requestMatchesResourceSelf(request, f1)).map(
-            f -> pscIndividualFilingService.patch(filingResource, mergePatch)).orElse(
-            new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND));
+            f -> checkIfMatch(f, request)
+                    ? pscIndividualFilingService.patchIfUnchanged(f, mergePatch)
+                    : pscIndividualFilingService.patch(f, mergePatch)).orElse(
+            FilingPatchResult.failed(new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND)));
+        final var patchResult = result.patchResult();
 
         if (patchResult.failedRetrieval()) {
             final var reason = (RetrievalFailureReason) patchResult.getRetrievalFailureReason();
@@ -151,13 +233,7 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
             logMap.put(STATUS_MSG, "patch successful");
             logger.debugContext(transId, PATCH_RESULT_MSG, logMap);
 
-            Optional<PscCommunal> optionalFiling = pscFilingService.get(filingResource);
-
-            return optionalFiling
-                    .map(PscIndividualFiling.class::cast)
-                    .map(PscIndividualFilingControllerImpl::createOKResponse)
-                    .orElse(ResponseEntity.notFound()
-                            .build());
+            return createOKResponse(result.filing());
         }
 
     }
@@ -167,6 +243,9 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
         final var responseHeaders = new HttpHeaders();
 
         responseHeaders.setLocation(filing.getLinks().self());
+        if (filing.getEtag() != null) {
+            responseHeaders.setETag(entityTag(filing.getEtag()));
+        }
 
         return ResponseEntity.ok().headers(responseHeaders).body(filing);
     }
@@ -176,56 +255,75 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
      *
      * @param transId        the Transaction ID
      * @param filingResource the PSC Filing ID
-     * @return OK response containing Filing resource
+     * @return OK response containing the Filing resource JSON, reused while its etag is unchanged,
+     *         or NOT_MODIFIED if the If-None-Match header has the current etag
      */
     @Override
     @GetMapping(value = "/{filingResourceId}", produces = {"application/json"})
-    public ResponseEntity<PscIndividualFiling> getFilingForReview(
+    public ResponseEntity<byte[]> getFilingForReview(
             @PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType,
             @PathVariable("filingResourceId") final String filingResource,
             final HttpServletRequest request) {
 
+        final var notModified = checkNotModified(transId, filingResource, request);
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
         final var maybePSCFiling = pscIndividualFilingService.get(filingResource)
                 .filter(f -> pscFilingService.requestMatchesResourceSelf(request,
                         f));
 
-        return maybePSCFiling.map(ResponseEntity::ok)
+        return maybePSCFiling.map(f -> createJsonResponse(f.getEtag(),
+                        filingResponseCache.get(filingResource, f)))
                 .orElse(ResponseEntity.notFound()
                         .build());
     }
 
     private PscIndividualFiling saveFilingWithLinks(final PscIndividualFiling entity, final String transId,
+                                                    final Transaction transaction,
                                                     final HttpServletRequest request,
                                                     final Map<String, Object> logMap) {
 
         logger.debugContext(transId, "saving PSC filing", logMap);
 
-        final var now = clock.instant();
-        final var entityWithCreatedUpdated =
-                PscIndividualFiling.builder(entity).createdAt(now).updatedAt(now)
-                        .build();
-        final var saved = pscIndividualFilingService.save(entityWithCreatedUpdated);
-        final var links = buildLinks(request, saved);
-        final var updatedWithLinks = PscIndividualFiling.builder(saved).links(links)
-                .build();
-        final var resaved = pscIndividualFilingService.save(updatedWithLinks);
+        final var entityWithLinks = withIdAndLinks(entity, transId,
+                transaction.getCompanyNumber(), request.getRequestURI(), clock.instant());
+        final var saved = pscIndividualFilingService.insert(entityWithLinks);
 
-        logMap.put("filing_id", resaved.getId());
+        logMap.put("filing_id", saved.getId());
         logger.infoContext(transId, "Filing saved", logMap);
 
-        return resaved;
+        return saved;
+    }
+
+    private static PscIndividualFiling withIdAndLinks(final PscIndividualFiling entity,
+            final String transId, final String companyNumber, final String filingsUri,
+            final Instant now) {
+        // allocate the ID up front so the links can be stored by the same single insert
+        final var objectId = new ObjectId();
+
+        return PscIndividualFiling.builder(entity)
+                .id(objectId.toHexString())
+                .pscType(PscTypeConstants.INDIVIDUAL)
+                .transactionId(transId)
+                .companyNumber(companyNumber)
+                .createdAt(now)
+                .updatedAt(now)
+                .etag(UUID.randomUUID().toString())
+                .links(buildLinks(filingsUri, objectId))
+                .build();
     }
 
-    private Links buildLinks(final HttpServletRequest request, final PscIndividualFiling savedFiling) {
-        final var objectId = new ObjectId(Objects.requireNonNull(savedFiling.getId()));
+    private static Links buildLinks(final String filingsUri, final ObjectId objectId) {
         final var selfUri = UriComponentsBuilder
-                .fromUriString(request.getRequestURI())
+                .fromUriString(filingsUri)
                 .pathSegment(objectId.toHexString())
                 .build().toUri();
 
         final var validateUri = UriComponentsBuilder
-                .fromUriString(request.getRequestURI()
+                .fromUriString(filingsUri
                 .replace(StringUtils.join("/", PscTypeConstants.INDIVIDUAL.getValue()), ""))
                 .pathSegment(objectId.toHexString())
                 .pathSegment(VALIDATION_STATUS)
@@ -233,4 +331,37 @@ public class PscIndividualFilingControllerImpl extends BaseFilingControllerImpl
 
         return new Links(selfUri, validateUri);
     }
+
+    private void checkBulkSize(final List<PscIndividualDto> dtos) {
+        if (dtos.isEmpty() || dtos.size() > maxBulkItems) {
+            throw new InvalidFilingException(List.of(
+                    new FieldError("pscIndividualDtos", "", dtos.size(), false,
+                            new String[]{"Size"}, new Object[]{1, maxBulkItems},
+                            "must contain between 1 and " + maxBulkItems + " filings")));
+        }
+    }
+
+    private void checkBulkBindingErrors(final List<PscIndividualDto> dtos) {
+        final Map<Integer, List<FieldError>> fieldErrors = new HashMap<>();
+
+        for (var i = 0; i < dtos.size(); i++) {
+            final var dto = dtos.get(i);
+
+            if (dto == null) {
+                fieldErrors.put(i, List.of(
+                        new FieldError("pscIndividualDto", "", null, false,
+                                new String[]{"NotNull"}, null, "must not be null")));
+                continue;
+            }
+            final var errors = new BeanPropertyBindingResult(dto, "pscIndividualDto");
+
+            validator.validate(dto, errors);
+            if (errors.hasFieldErrors()) {
+                fieldErrors.put(i, errors.getFieldErrors());
+            }
+        }
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidBulkFilingException(fieldErrors);
+        }
+    }
 }
@@ -1,10 +1,10 @@
 package uk.gov.companieshouse.pscfiling.api.controller.impl;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.time.Clock;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.UUID;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -32,11 +32,12 @@ import uk.gov.companieshouse.pscfiling.api.error.RetrievalFailureReason;
 import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidPatchException;
 import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.dto.PscWithIdentificationDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
-import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
@@ -54,15 +55,17 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
     private static final String ERROR_MSG = "error";
 
     private final PscWithIdentificationFilingService pscWithIdentificationFilingService;
+    private final FilingResponseCache filingResponseCache;
 
     public PscWithIdentificationFilingControllerImpl(final TransactionService transactionService,
         final PscFilingService pscFilingService,
         final PscWithIdentificationFilingService pscWithIdentificationFilingService,
-        final PscMapper filingMapper,
+        final PscMapper filingMapper, final FilingResponseCache filingResponseCache,
         final Clock clock, final Logger logger) {
         super(transactionService, pscFilingService, filingMapper, clock, logger);
 
         this.pscWithIdentificationFilingService = pscWithIdentificationFilingService;
+        this.filingResponseCache = filingResponseCache;
     }
 
     /**
@@ -95,7 +98,8 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
         transaction = getTransaction(transId, transaction, logMap, getPassthroughHeader(request));
 
         final var entity = filingMapper.map(dto);
-        final var savedEntity = saveFilingWithLinks(entity, transId, request, logMap, pscType);
+        final var savedEntity =
+                saveFilingWithLinks(entity, transId, transaction, request, logMap, pscType);
         updateTransactionResources(transaction, savedEntity.getLinks());
 
         return ResponseEntity.created(savedEntity.getLinks().self()).body(savedEntity);
@@ -109,7 +113,8 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
      * @param filingResource the Filing resource ID (RFC 7396)
      * @param mergePatch     details of the merge-patch to apply
      * @param request        the servlet request
-     * @return CREATED response containing the populated Filing resource
+     * @return OK response containing the populated Filing resource, or PRECONDITION_FAILED if
+     *         the If-Match header does not have the current Filing etag
      */
     @SuppressWarnings("unchecked")
     // Patch Validator will add List<FieldError> object to PatchResult
@@ -121,14 +126,17 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
             @PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType,
             @PathVariable("filingResourceId") final String filingResource,
-            @RequestBody final @NotNull Map<String, Object> mergePatch,
+            @RequestBody final @NotNull ObjectNode mergePatch,
             final HttpServletRequest request) {
 
         final var logMap = LogHelper.createLogMap(transId);
-        final var patchResult = pscFilingService.get(filingResource).filter(
+        final var result = pscWithIdentificationFilingService.get(filingResource).filter(
             f1 -> pscFilingService.requestMatchesResourceSelf(request, f1)).map(
-            f -> pscWithIdentificationFilingService.patch(filingResource, mergePatch)).orElse(
-            new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND));
+            f -> checkIfMatch(f, request)
+                    ? pscWithIdentificationFilingService.patchIfUnchanged(f, mergePatch)
+                    : pscWithIdentificationFilingService.patch(f, mergePatch)).orElse(
+            FilingPatchResult.failed(new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND)));
+        final var patchResult = result.patchResult();
 
         if (patchResult.failedRetrieval()) {
             final var reason = (RetrievalFailureReason) patchResult.getRetrievalFailureReason();
@@ -152,13 +160,7 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
             logMap.put(STATUS_MSG, "patch successful");
             logger.infoContext(transId, PATCH_RESULT_MSG, logMap);
 
-            Optional<PscCommunal> optionalFiling = pscFilingService.get(filingResource);
-
-            return optionalFiling
-                    .map(PscWithIdentificationFiling.class::cast)
-                    .map(PscWithIdentificationFilingControllerImpl::createOKResponse)
-                    .orElse(ResponseEntity.notFound()
-                            .build());
+            return createOKResponse(result.filing());
         }
 
     }
@@ -168,6 +170,9 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
         final var responseHeaders = new HttpHeaders();
 
         responseHeaders.setLocation(filing.getLinks().self());
+        if (filing.getEtag() != null) {
+            responseHeaders.setETag(entityTag(filing.getEtag()));
+        }
 
         return ResponseEntity.ok().headers(responseHeaders).body(filing);
     }
@@ -177,11 +182,12 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
      *
      * @param transId        the Transaction ID
      * @param filingResource the PSC Filing ID
-     * @return OK response containing Filing resource
+     * @return OK response containing the Filing resource JSON, reused while its etag is unchanged,
+     *         or NOT_MODIFIED if the If-None-Match header has the current etag
      */
     @Override
     @GetMapping(value = "/{filingResourceId}", produces = {"application/json"})
-    public ResponseEntity<PscWithIdentificationFiling> getFilingForReview(
+    public ResponseEntity<byte[]> getFilingForReview(
             @PathVariable("transactionId") final String transId,
             @PathVariable("pscType") final PscTypeConstants pscType,
             @PathVariable("filingResourceId") final String filingResource,
@@ -192,11 +198,17 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
         logMap.put("method", request.getMethod());
         logger.debugRequest(request, "GET filing resource", logMap);
 
+        final var notModified = checkNotModified(transId, filingResource, request);
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
         final var maybePSCFiling = pscWithIdentificationFilingService.get(filingResource)
                 .filter(f -> pscFilingService.requestMatchesResourceSelf(request,
                         f));
 
-        return maybePSCFiling.map(ResponseEntity::ok)
+        return maybePSCFiling.map(f -> createJsonResponse(f.getEtag(),
+                        filingResponseCache.get(filingResource, f)))
                 .orElse(ResponseEntity.notFound()
                         .build());
     }
@@ -206,45 +218,51 @@ public class PscWithIdentificationFilingControllerImpl extends BaseFilingControl
      *
      * @param entity            the PSC filing
      * @param transId           the transaction ID
+     * @param transaction       the transaction the filing belongs to
      * @param request           the HttpServletRequest
      * @param logMap            a list of parameters to include in a log message
      * @param pscType           the PSC type
      * @return PscWithIdentificationFiling
      */
     private PscWithIdentificationFiling saveFilingWithLinks(final PscWithIdentificationFiling entity,
-                                                            final String transId, final HttpServletRequest request,
+                                                            final String transId,
+                                                            final Transaction transaction,
+                                                            final HttpServletRequest request,
                                                             final Map<String, Object> logMap,
                                                             final PscTypeConstants pscType) {
         logger.debugContext(transId, "saving PSC filing", logMap);
 
+        // allocate the ID up front so the links can be stored by the same single insert
+        final var objectId = new ObjectId();
         final var now = clock.instant();
-        final var entityWithCreatedUpdated = PscWithIdentificationFiling.builder(entity)
+        final var entityWithLinks = PscWithIdentificationFiling.builder(entity)
+                .id(objectId.toHexString())
+                .pscType(pscType)
+                .transactionId(transId)
+                .companyNumber(transaction.getCompanyNumber())
                 .createdAt(now)
                 .updatedAt(now)
+                .etag(UUID.randomUUID().toString())
+                .links(buildLinks(request, objectId, pscType))
                 .build();
-        final var saved = pscWithIdentificationFilingService.save(entityWithCreatedUpdated);
-        final var links = buildLinks(request, saved.getId(), pscType);
-        final var updatedWithLinks = PscWithIdentificationFiling.builder(saved).links(links)
-                .build();
-        final var resaved = pscWithIdentificationFilingService.save(updatedWithLinks);
+        final var saved = pscWithIdentificationFilingService.insert(entityWithLinks);
 
-        logMap.put("filing_id", resaved.getId());
+        logMap.put("filing_id", saved.getId());
         logger.infoContext(transId, "Filing saved", logMap);
 
-        return resaved;
+        return saved;
     }
 
     /**
      * Builds a Links object containing a self uri link and a validation status link.
      *
      * @param request           the HttpServletRequest
-     * @param savedFilingId     the PSC Filing ID
+     * @param objectId          the PSC Filing ID
      * @param pscType           the PSC type
      * @return Links object
      */
-    private Links buildLinks(final HttpServletRequest request, final String savedFilingId,
+    private Links buildLinks(final HttpServletRequest request, final ObjectId objectId,
                              final PscTypeConstants pscType) {
-        final var objectId = new ObjectId(Objects.requireNonNull(savedFilingId));
         final var selfUri = UriComponentsBuilder.fromUriString(request.getRequestURI())
                 .pathSegment(objectId.toHexString())
                 .build()
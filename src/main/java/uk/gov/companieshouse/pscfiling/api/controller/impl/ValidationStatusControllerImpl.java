@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.pscfiling.api.controller.impl;
 
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,8 +26,12 @@ import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.dto.PscDtoCommunal;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.service.FilingValidationService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 import uk.gov.companieshouse.pscfiling.api.utils.LogHelper;
 import uk.gov.companieshouse.pscfiling.api.validator.FilingValidationContext;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
@@ -39,20 +44,29 @@ public class ValidationStatusControllerImpl implements ValidationStatusControlle
     private static final Pattern SELF_URI_PSC_TYPE_PATTERN = Pattern.compile("/persons-with-significant-control/(?<pscType>individual|corporate-entity|legal-person)/");
 
     private final PscFilingService pscFilingService;
+    private final PscIndividualFilingService pscIndividualFilingService;
+    private final PscWithIdentificationFilingService pscWithIdentificationFilingService;
     private final FilingValidationService filingValidationService;
     private final PscMapper filingMapper;
     private final ErrorMapper errorMapper;
+    private final ValidationResultCache validationResultCache;
     private final Logger logger;
     private final boolean isTransactionsCloseableEnabled;
 
     public ValidationStatusControllerImpl(final PscFilingService pscFilingService,
+                                          final PscIndividualFilingService pscIndividualFilingService,
+                                          final PscWithIdentificationFilingService pscWithIdentificationFilingService,
                                           final FilingValidationService filingValidationService,
-                                          final PscMapper filingMapper, final ErrorMapper errorMapper, @Value("#{new Boolean('${feature.flag.transactions.closable}')}") final boolean isTransactionsClosableEnabled,
+                                          final PscMapper filingMapper, final ErrorMapper errorMapper,
+                                          final ValidationResultCache validationResultCache, @Value("#{new Boolean('${feature.flag.transactions.closable}')}") final boolean isTransactionsClosableEnabled,
                                           final Logger logger) {
         this.pscFilingService = pscFilingService;
+        this.pscIndividualFilingService = pscIndividualFilingService;
+        this.pscWithIdentificationFilingService = pscWithIdentificationFilingService;
         this.filingValidationService = filingValidationService;
         this.filingMapper = filingMapper;
         this.errorMapper = errorMapper;
+        this.validationResultCache = validationResultCache;
         this.isTransactionsCloseableEnabled = isTransactionsClosableEnabled;
         this.logger = logger;
 
@@ -75,20 +89,22 @@ public class ValidationStatusControllerImpl implements ValidationStatusControlle
 
         final var passthroughHeader =
                 request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
-        final var maybePscIndividualFiling = pscFilingService.get(filingResource);
+        // the filing data is only read if there is no validation result to reuse
+        final var maybePscFiling = pscFilingService.getSummary(filingResource, transId);
 
-        return maybePscIndividualFiling.map(f -> isValid(f, passthroughHeader, transaction))
+        return maybePscFiling.map(f -> isValid(filingResource, f, passthroughHeader, transaction))
                 .orElseThrow(() -> new FilingResourceNotFoundException(filingResource));
     }
 
-    private ValidationStatusResponse isValid(final PscCommunal pscFiling,
-            final String passthroughHeader, final Transaction transaction) {
+    private ValidationStatusResponse isValid(final String filingId,
+            final PscFilingSummary pscFiling, final String passthroughHeader,
+            final Transaction transaction) {
 
         final var validationStatus = new ValidationStatusResponse();
 
         if (isTransactionsCloseableEnabled) {
             final var validationErrors
-                = calculateIsValid(pscFiling, passthroughHeader, transaction);
+                = calculateIsValid(filingId, pscFiling, passthroughHeader, transaction);
 
             validationStatus.setValid(validationErrors.length == 0);
             validationStatus.setValidationStatusError(validationErrors);
@@ -105,17 +121,21 @@ public class ValidationStatusControllerImpl implements ValidationStatusControlle
         return validationStatus;
     }
 
-    private ValidationStatusError[] calculateIsValid(final PscCommunal pscFiling,
-            final String passthroughHeader, final Transaction transaction) {
+    private ValidationStatusError[] calculateIsValid(final String filingId,
+            final PscFilingSummary pscFiling, final String passthroughHeader,
+            final Transaction transaction) {
 
-        final var self = pscFiling.getLinks().self().getPath();
-        final var matcher = SELF_URI_PSC_TYPE_PATTERN.matcher(self);
+        final var maybePscType = Optional.ofNullable(pscFiling.pscType())
+                .or(() -> pscTypeFromSelfLink(pscFiling));
 
-        if (matcher.find()) {
-            final var type = matcher.group("pscType");
-            final var pscType = PscTypeConstants.nameOf(type).orElseThrow(); // cannot be empty
+        if (maybePscType.isPresent()) {
+            final var pscType = maybePscType.get();
 
-            return validatePscType(pscFiling, passthroughHeader, pscType, transaction);
+            // polls for an unchanged filing reuse the result
+            return validationResultCache.get(filingId, pscFiling, pscType, transaction,
+                    passthroughHeader,
+                    () -> validatePscType(filingId, pscFiling, passthroughHeader, pscType,
+                            transaction));
         }
         else {
             return new ValidationStatusError[]{
@@ -126,9 +146,40 @@ public class ValidationStatusControllerImpl implements ValidationStatusControlle
 
     }
 
-    private ValidationStatusError[] validatePscType(final PscCommunal pscFiling,
+    /**
+     * Filings stored before the PSC type was recorded only have it in their self link.
+     */
+    private static Optional<PscTypeConstants> pscTypeFromSelfLink(
+            final PscFilingSummary pscFiling) {
+        final var matcher = SELF_URI_PSC_TYPE_PATTERN.matcher(pscFiling.links().self().getPath());
+
+        return matcher.find()
+                ? PscTypeConstants.nameOf(matcher.group("pscType"))
+                : Optional.empty();
+    }
+
+    /**
+     * Read the filing from the repository for its stored PSC type, so that the document type
+     * does not have to be resolved from its {@code _class}. Filings stored before the PSC type
+     * was recorded fall back to the polymorphic read.
+     */
+    private Optional<? extends PscCommunal> getFiling(final String filingId,
+            final PscFilingSummary summary) {
+        if (summary.pscType() == null) {
+            return pscFilingService.get(filingId);
+        }
+        return switch (summary.pscType()) {
+            case INDIVIDUAL -> pscIndividualFilingService.get(filingId);
+            case CORPORATE_ENTITY, LEGAL_PERSON -> pscWithIdentificationFilingService.get(filingId);
+        };
+    }
+
+    private ValidationStatusError[] validatePscType(final String filingId,
+                                                    final PscFilingSummary summary,
                                                     final String passthroughHeader, final PscTypeConstants pscType,
                                                     final Transaction transaction) {
+        final PscCommunal pscFiling = getFiling(filingId, summary)
+                .orElseThrow(() -> new FilingResourceNotFoundException(filingId));
         final PscDtoCommunal dto = filingMapper.map(pscFiling);
 
         final var errors = new ArrayList<FieldError>();
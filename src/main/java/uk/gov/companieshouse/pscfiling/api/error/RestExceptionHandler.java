@@ -42,7 +42,10 @@ import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.exception.CompanyProfileServiceException;
 import uk.gov.companieshouse.pscfiling.api.exception.ConflictingFilingException;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
 import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingUpdateConflictException;
+import uk.gov.companieshouse.pscfiling.api.exception.InvalidBulkFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.MergePatchException;
 import uk.gov.companieshouse.pscfiling.api.exception.PscServiceException;
@@ -54,7 +57,10 @@ import uk.gov.companieshouse.pscfiling.api.exception.TransactionServiceException
  * <ul>
  *     <li>JSON payload not readable/malformed</li>
  *     <li>{@link InvalidFilingException}</li>
+ *     <li>{@link InvalidBulkFilingException}</li>
  *     <li>{@link FilingResourceNotFoundException}</li>
+ *     <li>{@link FilingUpdateConflictException}</li>
+ *     <li>{@link FilingPreconditionFailedException}</li>
  *     <li>{@link MergePatchException}</li>
  *     <li>{@link TransactionServiceException}</li>
  *     <li>{@link PscServiceException}</li>
@@ -67,6 +73,10 @@ import uk.gov.companieshouse.pscfiling.api.exception.TransactionServiceException
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     private static final Pattern PARSE_MESSAGE_PATTERN = Pattern.compile("(Text .*)$",
             Pattern.MULTILINE);
+    static final String FILING_UPDATE_CONFLICT_MSG =
+            "Filing resource {filing-resource-id} was changed by another request, please retry";
+    static final String FILING_PRECONDITION_FAILED_MSG =
+            "Filing resource {filing-resource-id} has changed since it was read, please re-read it";
 
     @Autowired
     @Qualifier(value = "validation")
@@ -116,6 +126,23 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return new ApiErrors(errorList);
     }
 
+    @ExceptionHandler(InvalidBulkFilingException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ApiErrors handleInvalidBulkFilingException(final InvalidBulkFilingException ex,
+            final WebRequest request) {
+        // locate each error within its item: $.ceased_on of the second item is $[1].ceased_on
+        final List<ApiError> errorList = ex.getFieldErrors().entrySet().stream()
+                .flatMap(item -> item.getValue().stream()
+                        .map(e -> buildRequestBodyError(getFieldErrorApiEnumerationMessage(e),
+                                "$[" + item.getKey() + "]" + getJsonPath(e).substring(1),
+                                e.getRejectedValue())))
+                .toList();
+
+        logError(chLogger, request, "Invalid bulk filing data", ex, errorList);
+        return new ApiErrors(errorList);
+    }
+
     @ExceptionHandler(MergePatchException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ResponseBody
@@ -158,6 +185,38 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return new ApiErrors(errorList);
     }
 
+    @ExceptionHandler(FilingUpdateConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ResponseBody
+    public ApiErrors handleFilingUpdateConflictException(final FilingUpdateConflictException ex,
+            final WebRequest request) {
+        final var error = new ApiError(FILING_UPDATE_CONFLICT_MSG, getRequestURI(request),
+                LocationType.RESOURCE.getValue(), ErrorType.VALIDATION.getType());
+
+        Optional.ofNullable(ex.getMessage())
+                .ifPresent(m -> error.addErrorValue("{filing-resource-id}", m));
+
+        final var errorList = List.of(error);
+        logError(chLogger, request, ex.getMessage(), ex, errorList);
+        return new ApiErrors(errorList);
+    }
+
+    @ExceptionHandler(FilingPreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ResponseBody
+    public ApiErrors handleFilingPreconditionFailedException(
+            final FilingPreconditionFailedException ex, final WebRequest request) {
+        final var error = new ApiError(FILING_PRECONDITION_FAILED_MSG, getRequestURI(request),
+                LocationType.RESOURCE.getValue(), ErrorType.VALIDATION.getType());
+
+        Optional.ofNullable(ex.getMessage())
+                .ifPresent(m -> error.addErrorValue("{filing-resource-id}", m));
+
+        final var errorList = List.of(error);
+        logError(chLogger, request, ex.getMessage(), ex, errorList);
+        return new ApiErrors(errorList);
+    }
+
     @ExceptionHandler({
             PscServiceException.class,
             TransactionServiceException.class,
@@ -222,6 +281,10 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     }
 
     private static void addLocationInfo(final ApiError error, final JsonLocation location) {
+        // an error raised while reading a tree rather than JSON text has no location to report
+        if (location == null || location.getLineNr() < 1) {
+            return;
+        }
         error.addErrorValue("offset", location.offsetDescription());
         error.addErrorValue("line", String.valueOf(location.getLineNr()));
         error.addErrorValue("column", String.valueOf(location.getColumnNr()));
@@ -346,6 +409,6 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
     private String getFieldErrorApiEnumerationMessage(final FieldError e) {
         final var codes = Objects.requireNonNull(e.getCodes());
-        return validation.get(codes[codes.length - 1]);
+        return validation.getOrDefault(codes[codes.length - 1], e.getDefaultMessage());
     }
 }
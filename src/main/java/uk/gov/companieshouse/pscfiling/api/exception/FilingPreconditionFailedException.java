@@ -0,0 +1,11 @@
+package uk.gov.companieshouse.pscfiling.api.exception;
+
+/**
+ * PSC Filing resource no longer has the etag a conditional request was made against.
+ */
+public class FilingPreconditionFailedException extends RuntimeException {
+
+    public FilingPreconditionFailedException(final String message) {
+        super(message);
+    }
+}
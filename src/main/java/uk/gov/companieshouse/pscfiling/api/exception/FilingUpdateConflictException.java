@@ -0,0 +1,11 @@
+package uk.gov.companieshouse.pscfiling.api.exception;
+
+/**
+ * PSC Filing resource changed by another request while being updated.
+ */
+public class FilingUpdateConflictException extends RuntimeException {
+
+    public FilingUpdateConflictException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.companieshouse.pscfiling.api.exception;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.springframework.validation.FieldError;
+
+/**
+ * A validation Exception with the {@link FieldError}s of each invalid item in a bulk request,
+ * keyed by the item's position in the request.
+ */
+public class InvalidBulkFilingException extends RuntimeException {
+    private final SortedMap<Integer, List<FieldError>> fieldErrors;
+
+    public InvalidBulkFilingException(final Map<Integer, List<FieldError>> fieldErrors) {
+        this.fieldErrors = new TreeMap<>(fieldErrors);
+    }
+
+    public SortedMap<Integer, List<FieldError>> getFieldErrors() {
+        return Collections.unmodifiableSortedMap(fieldErrors);
+    }
+}
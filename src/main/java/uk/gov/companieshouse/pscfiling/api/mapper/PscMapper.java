@@ -28,23 +28,29 @@ public interface PscMapper {
         }
     }
 
+    @Mapping(target = "companyNumber", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "etag", ignore = true)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "kind", ignore = true)
     @Mapping(target = "links", ignore = true)
+    @Mapping(target = "pscType", ignore = true)
     @Mapping(target = "statementActionDate", ignore = true)
     @Mapping(target = "statementType", ignore = true)
+    @Mapping(target = "transactionId", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     PscIndividualFiling map(final PscIndividualDto dto);
 
+    @Mapping(target = "companyNumber", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "etag", ignore = true)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "kind", ignore = true)
     @Mapping(target = "links", ignore = true)
+    @Mapping(target = "pscType", ignore = true)
     @Mapping(target = "statementActionDate", ignore = true)
     @Mapping(target = "statementType", ignore = true)
+    @Mapping(target = "transactionId", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     PscWithIdentificationFiling map(final PscWithIdentificationDto dto);
 
@@ -0,0 +1,22 @@
+package uk.gov.companieshouse.pscfiling.api.model;
+
+import uk.gov.companieshouse.patch.model.PatchResult;
+
+/**
+ * The outcome of patching a filing: the patch result and, when it succeeded, the filing as
+ * stored.
+ *
+ * @param patchResult the patch result
+ * @param filing      the stored filing; null unless the patch succeeded
+ * @param <T>         the filing type
+ */
+public record FilingPatchResult<T>(PatchResult patchResult, T filing) {
+
+    public static <T> FilingPatchResult<T> failed(final PatchResult patchResult) {
+        return new FilingPatchResult<>(patchResult, null);
+    }
+
+    public static <T> FilingPatchResult<T> succeeded(final T filing) {
+        return new FilingPatchResult<>(new PatchResult(), filing);
+    }
+}
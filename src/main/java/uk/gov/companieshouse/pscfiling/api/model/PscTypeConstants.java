@@ -1,7 +1,10 @@
 package uk.gov.companieshouse.pscfiling.api.model;
 
-import java.util.EnumSet;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum PscTypeConstants {
     INDIVIDUAL("individual"),
@@ -12,6 +15,10 @@ public enum PscTypeConstants {
         this.value = value;
     }
 
+    private static final Map<String, PscTypeConstants> BY_VALUE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(PscTypeConstants::getValue,
+                    Function.identity()));
+
     private final String value;
 
     public String getValue() {
@@ -19,6 +26,6 @@ public enum PscTypeConstants {
     }
 
     public static Optional<PscTypeConstants> nameOf(final String value) {
-        return EnumSet.allOf(PscTypeConstants.class).stream().filter(v -> v.getValue().equals(value)).findAny();
+        return Optional.ofNullable(value).map(BY_VALUE::get);
     }
 }
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.pscfiling.api.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonMerge;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -11,6 +12,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.function.Consumer;
+import org.springframework.data.mongodb.core.index.Indexed;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 
 /**
  * An entity model to store common fields among PSC types.
@@ -20,6 +23,9 @@ public class PscCommon implements PscCommunal, Touchable {
     private Address address;
     private Boolean addressSameAsRegisteredOfficeAddress;
     private LocalDate ceasedOn;
+    @JsonIgnore
+    @Indexed
+    private String companyNumber;
     @JsonProperty(value = "created_at", access= JsonProperty.Access.READ_ONLY)
     private Instant createdAt;
     private String etag;
@@ -28,9 +34,16 @@ public class PscCommon implements PscCommunal, Touchable {
     private Links links;
     private NaturesOfControlList naturesOfControl;
     private LocalDate notifiedOn;
+    @JsonIgnore
+    @Indexed
+    private PscTypeConstants pscType;
     private String referenceEtag;
+    @Indexed
     private String referencePscId;
     private LocalDate registerEntryDate;
+    @JsonIgnore
+    @Indexed
+    private String transactionId;
     @JsonProperty(value = "updated_at", access= JsonProperty.Access.READ_ONLY)
     private Instant updatedAt;
 
@@ -52,6 +65,14 @@ public class PscCommon implements PscCommunal, Touchable {
         return ceasedOn;
     }
 
+    /**
+     * @return The number of the company the filing is for.
+     */
+    @Override
+    public String getCompanyNumber() {
+        return companyNumber;
+    }
+
     /**
      * @return The entity creation timestamp.
      */
@@ -100,6 +121,14 @@ public class PscCommon implements PscCommunal, Touchable {
         return notifiedOn;
     }
 
+    /**
+     * @return The PSC type of the filing.
+     */
+    @Override
+    public PscTypeConstants getPscType() {
+        return pscType;
+    }
+
     /**
      * @return The psc reference eTag.
      */
@@ -124,6 +153,14 @@ public class PscCommon implements PscCommunal, Touchable {
         return registerEntryDate;
     }
 
+    /**
+     * @return The ID of the transaction the filing belongs to.
+     */
+    @Override
+    public String getTransactionId() {
+        return transactionId;
+    }
+
     /**
      * @return A timestamp for the latest entity update.
      */
@@ -152,24 +189,27 @@ public class PscCommon implements PscCommunal, Touchable {
                 && Objects.equals(getAddressSameAsRegisteredOfficeAddress(),
                 pscCommon.getAddressSameAsRegisteredOfficeAddress())
                 && Objects.equals(getCeasedOn(), pscCommon.getCeasedOn())
+                && Objects.equals(getCompanyNumber(), pscCommon.getCompanyNumber())
                 && Objects.equals(getCreatedAt(), pscCommon.getCreatedAt())
                 && Objects.equals(getEtag(), pscCommon.getEtag())
                 && Objects.equals(getKind(), pscCommon.getKind())
                 && Objects.equals(getLinks(), pscCommon.getLinks())
                 && Objects.equals(getNaturesOfControl(), pscCommon.getNaturesOfControl())
                 && Objects.equals(getNotifiedOn(), pscCommon.getNotifiedOn())
+                && getPscType() == pscCommon.getPscType()
                 && Objects.equals(getReferenceEtag(), pscCommon.getReferenceEtag())
                 && Objects.equals(getReferencePscId(), pscCommon.getReferencePscId())
                 && Objects.equals(getRegisterEntryDate(), pscCommon.getRegisterEntryDate())
+                && Objects.equals(getTransactionId(), pscCommon.getTransactionId())
                 && Objects.equals(getUpdatedAt(), pscCommon.getUpdatedAt());
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(getAddress(), getAddressSameAsRegisteredOfficeAddress(), getCeasedOn(),
-                getCreatedAt(), getEtag(), getKind(), getLinks(), getNaturesOfControl(),
-                getNotifiedOn(), getReferenceEtag(), getReferencePscId(),
-                getRegisterEntryDate(), getUpdatedAt());
+                getCompanyNumber(), getCreatedAt(), getEtag(), getKind(), getLinks(),
+                getNaturesOfControl(), getNotifiedOn(), getPscType(), getReferenceEtag(),
+                getReferencePscId(), getRegisterEntryDate(), getTransactionId(), getUpdatedAt());
     }
 
     @Override
@@ -178,15 +218,18 @@ public class PscCommon implements PscCommunal, Touchable {
                 .add("address=" + address)
                 .add("addressSameAsRegisteredOfficeAddress=" + addressSameAsRegisteredOfficeAddress)
                 .add("ceasedOn=" + ceasedOn)
+                .add("companyNumber='" + companyNumber + "'")
                 .add("createdAt=" + createdAt)
                 .add("etag='" + etag + "'")
                 .add("kind='" + kind + "'")
                 .add("links=" + links)
                 .add("naturesOfControl=" + naturesOfControl)
                 .add("notifiedOn=" + notifiedOn)
+                .add("pscType=" + pscType)
                 .add("referenceEtag='" + referenceEtag + "'")
                 .add("referencePscId='" + referencePscId + "'")
                 .add("registerEntryDate=" + registerEntryDate)
+                .add("transactionId='" + transactionId + "'")
                 .add("updatedAt=" + updatedAt)
                 .toString();
     }
@@ -215,15 +258,18 @@ public class PscCommon implements PscCommunal, Touchable {
                     .addressSameAsRegisteredOfficeAddress(
                             other.getAddressSameAsRegisteredOfficeAddress())
                     .ceasedOn(other.getCeasedOn())
+                    .companyNumber(other.getCompanyNumber())
                     .createdAt(other.getCreatedAt())
                     .etag(other.getEtag())
                     .kind(other.getKind())
                     .links(other.getLinks())
                     .naturesOfControl(other.getNaturesOfControl())
                     .notifiedOn(other.getNotifiedOn())
+                    .pscType(other.getPscType())
                     .referenceEtag(other.getReferenceEtag())
                     .referencePscId(other.getReferencePscId())
                     .registerEntryDate(other.getRegisterEntryDate())
+                    .transactionId(other.getTransactionId())
                     .updatedAt(other.getUpdatedAt());
         }
 
@@ -248,6 +294,12 @@ public class PscCommon implements PscCommunal, Touchable {
             return this;
         }
 
+        public Builder companyNumber(final String value) {
+
+            commonBuildSteps.add(data -> data.companyNumber = value);
+            return this;
+        }
+
         public Builder createdAt(final Instant value) {
 
             commonBuildSteps.add(data -> data.createdAt = value);
@@ -286,6 +338,12 @@ public class PscCommon implements PscCommunal, Touchable {
             return this;
         }
 
+        public Builder pscType(final PscTypeConstants value) {
+
+            commonBuildSteps.add(data -> data.pscType = value);
+            return this;
+        }
+
         public Builder referenceEtag(final String value) {
 
             commonBuildSteps.add(data -> data.referenceEtag = value);
@@ -304,6 +362,12 @@ public class PscCommon implements PscCommunal, Touchable {
             return this;
         }
 
+        public Builder transactionId(final String value) {
+
+            commonBuildSteps.add(data -> data.transactionId = value);
+            return this;
+        }
+
         public Builder updatedAt(final Instant value) {
 
             commonBuildSteps.add(data -> data.updatedAt = value);
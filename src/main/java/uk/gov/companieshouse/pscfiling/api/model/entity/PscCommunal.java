@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.mongodb.core.mapping.Document;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 
 @Document(collection = "psc_submissions")
 public interface PscCommunal {
@@ -14,6 +15,8 @@ public interface PscCommunal {
 
     LocalDate getCeasedOn();
 
+    String getCompanyNumber();
+
     Instant getCreatedAt();
 
     String getEtag();
@@ -26,11 +29,15 @@ public interface PscCommunal {
 
     LocalDate getNotifiedOn();
 
+    PscTypeConstants getPscType();
+
     String getReferenceEtag();
 
     String getReferencePscId();
 
     LocalDate getRegisterEntryDate();
 
+    String getTransactionId();
+
     Instant getUpdatedAt();
 }
@@ -0,0 +1,33 @@
+package uk.gov.companieshouse.pscfiling.api.model.entity;
+
+import java.time.Instant;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+
+/**
+ * A read model of the fields needed to identify and check a stored filing of any PSC type,
+ * read without its filing data.
+ *
+ * @param id             the Filing ID
+ * @param links          the filing links
+ * @param etag           the filing etag
+ * @param pscType        the PSC type; null for filings stored before it was recorded
+ * @param referenceEtag  the etag of the PSC the filing refers to
+ * @param referencePscId the ID of the PSC the filing refers to
+ * @param createdAt      when the filing was created
+ * @param updatedAt      when the filing was last updated
+ */
+public record PscFilingSummary(String id, Links links, String etag, PscTypeConstants pscType,
+                               String referenceEtag, String referencePscId, Instant createdAt,
+                               Instant updatedAt) {
+
+    /**
+     * @param filingId the Filing ID
+     * @param filing   the filing, already loaded in full
+     * @return the summary of the filing
+     */
+    public static PscFilingSummary of(final String filingId, final PscCommunal filing) {
+        return new PscFilingSummary(filingId, filing.getLinks(), filing.getEtag(),
+                filing.getPscType(), filing.getReferenceEtag(), filing.getReferencePscId(),
+                filing.getCreatedAt(), filing.getUpdatedAt());
+    }
+}
@@ -13,6 +13,7 @@ import java.util.StringJoiner;
 import java.util.function.Consumer;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 
 /**
  * The Psc Individual entity model.
@@ -174,6 +175,7 @@ public class PscIndividualFiling extends PscCommon implements PscCommunal, Touch
                     .addressSameAsRegisteredOfficeAddress(
                             other.getAddressSameAsRegisteredOfficeAddress())
                     .ceasedOn(other.getCeasedOn())
+                    .companyNumber(other.getCompanyNumber())
                     .countryOfResidence(other.getCountryOfResidence())
                     .createdAt(other.getCreatedAt())
                     .dateOfBirth(other.getDateOfBirth())
@@ -185,6 +187,7 @@ public class PscIndividualFiling extends PscCommon implements PscCommunal, Touch
                     .naturesOfControl(other.getNaturesOfControl())
                     .nationality(other.getNationality())
                     .notifiedOn(other.getNotifiedOn())
+                    .pscType(other.getPscType())
                     .referenceEtag(other.getReferenceEtag())
                     .referencePscId(other.getReferencePscId())
                     .residentialAddress(other.getResidentialAddress())
@@ -192,6 +195,7 @@ public class PscIndividualFiling extends PscCommon implements PscCommunal, Touch
                             other.getResidentialAddressSameAsCorrespondenceAddress())
                     .statementActionDate(other.getStatementActionDate())
                     .statementType(other.getStatementType())
+                    .transactionId(other.getTransactionId())
                     .updatedAt(other.getUpdatedAt());
         }
 
@@ -228,6 +232,13 @@ public class PscIndividualFiling extends PscCommon implements PscCommunal, Touch
             return this;
         }
 
+        @Override
+        public Builder companyNumber(final String value) {
+
+            commonBuilder.companyNumber(value);
+            return this;
+        }
+
         @Override
         public Builder createdAt(final Instant value) {
 
@@ -293,6 +304,13 @@ public class PscIndividualFiling extends PscCommon implements PscCommunal, Touch
             return this;
         }
 
+        @Override
+        public Builder pscType(final PscTypeConstants value) {
+
+            commonBuilder.pscType(value);
+            return this;
+        }
+
         @Override
         public Builder referenceEtag(final String value) {
 
@@ -341,6 +359,13 @@ public class PscIndividualFiling extends PscCommon implements PscCommunal, Touch
             return this;
         }
 
+        @Override
+        public Builder transactionId(final String value) {
+
+            commonBuilder.transactionId(value);
+            return this;
+        }
+
         @Override
         public Builder updatedAt(final Instant value) {
 
@@ -13,6 +13,7 @@ import java.util.StringJoiner;
 import java.util.function.Consumer;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 
 /**
  * The psc with identification filing entity model.
@@ -130,6 +131,7 @@ public class PscWithIdentificationFiling extends PscCommon implements PscCommuna
                     .addressSameAsRegisteredOfficeAddress(
                             other.getAddressSameAsRegisteredOfficeAddress())
                     .ceasedOn(other.getCeasedOn())
+                    .companyNumber(other.getCompanyNumber())
                     .name(other.getName())
                     .identification(other.getIdentification())
                     .createdAt(other.getCreatedAt())
@@ -139,10 +141,12 @@ public class PscWithIdentificationFiling extends PscCommon implements PscCommuna
                     .links(other.getLinks())
                     .naturesOfControl(other.getNaturesOfControl())
                     .notifiedOn(other.getNotifiedOn())
+                    .pscType(other.getPscType())
                     .referenceEtag(other.getReferenceEtag())
                     .referencePscId(other.getReferencePscId())
                     .statementActionDate(other.getStatementActionDate())
                     .statementType(other.getStatementType())
+                    .transactionId(other.getTransactionId())
                     .updatedAt(other.getUpdatedAt());
         }
 
@@ -182,6 +186,13 @@ public class PscWithIdentificationFiling extends PscCommon implements PscCommuna
             return this;
         }
 
+        @Override
+        public Builder companyNumber(final String value) {
+
+            commonBuilder.companyNumber(value);
+            return this;
+        }
+
         @Override
         public Builder createdAt(final Instant value) {
 
@@ -224,6 +235,13 @@ public class PscWithIdentificationFiling extends PscCommon implements PscCommuna
             return this;
         }
 
+        @Override
+        public Builder pscType(final PscTypeConstants value) {
+
+            commonBuilder.pscType(value);
+            return this;
+        }
+
         @Override
         public Builder referenceEtag(final String value) {
 
@@ -263,6 +281,13 @@ public class PscWithIdentificationFiling extends PscCommon implements PscCommuna
             return this;
         }
 
+        @Override
+        public Builder transactionId(final String value) {
+
+            commonBuilder.transactionId(value);
+            return this;
+        }
+
         @Override
         public Builder updatedAt(final Instant value) {
 
@@ -0,0 +1,53 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import java.util.Objects;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Builds the field-level update that turns one stored form of a document into another.
+ * <p>
+ * Embedded documents are compared field by field, so a change to a single nested field (such
+ * as an address premises) is set by its dotted path rather than rewriting the whole embedded
+ * document. Arrays and other values are set whole when they differ. Fields present only in the
+ * original are unset.
+ * </p>
+ */
+public final class FieldUpdates {
+
+    private FieldUpdates() {
+        // static helper
+    }
+
+    /**
+     * @param original the stored form of the document before the change
+     * @param changed  the stored form of the document after the change
+     * @return the $set and $unset update, with no operations if the documents are equal
+     */
+    public static Update between(final Document original, final Document changed) {
+        final var update = new Update();
+
+        addChanges(update, "", original, changed);
+        return update;
+    }
+
+    private static void addChanges(final Update update, final String prefix,
+            final Document original, final Document changed) {
+        changed.forEach((key, value) -> {
+            final var path = prefix + key;
+            final var previous = original.get(key);
+
+            if (previous instanceof Document previousDocument
+                    && value instanceof Document document) {
+                addChanges(update, path + ".", previousDocument, document);
+            }
+            else if (!original.containsKey(key) || !Objects.equals(previous, value)) {
+                update.set(path, value);
+            }
+        });
+        original.keySet()
+                .stream()
+                .filter(key -> !changed.containsKey(key))
+                .forEach(key -> update.unset(prefix + key));
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
+import uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields;
+
+/**
+ * Reads and writes filings of one type through the collection, so that the driver encodes and
+ * decodes them with the registered filing codec rather than the mapping converter.
+ * <p>
+ * Filings without an ID are left to the mapping converter, which assigns one. Filings inserted
+ * without an etag are given a new one, so that every stored filing can be matched by its etag.
+ * </p>
+ *
+ * @param <T> the filing type
+ */
+abstract class FilingCodecRepositorySupport<T> {
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+
+    private final MongoOperations mongoOperations;
+    private final Class<T> type;
+    private final Function<T, String> idMapper;
+    private final Function<T, String> etagMapper;
+    private final BiFunction<T, String, T> etagSetter;
+
+    protected FilingCodecRepositorySupport(final MongoOperations mongoOperations,
+            final Class<T> type, final Function<T, String> idMapper,
+            final Function<T, String> etagMapper, final BiFunction<T, String, T> etagSetter) {
+        this.mongoOperations = mongoOperations;
+        this.type = type;
+        this.idMapper = idMapper;
+        this.etagMapper = etagMapper;
+        this.etagSetter = etagSetter;
+    }
+
+    public Optional<T> findById(final String id) {
+        Assert.notNull(id, "The given id must not be null");
+
+        return Optional.ofNullable(mongoOperations.execute(type,
+                collection -> collection.withDocumentClass(type)
+                        .find(Filters.eq(BsonFields.storedId(id)))
+                        .first()));
+    }
+
+    public <S extends T> S insert(final S filing) {
+        final var withEtag = withEtag(filing);
+
+        if (idMapper.apply(withEtag) == null) {
+            return mongoOperations.insert(withEtag);
+        }
+        mongoOperations.execute(type,
+                collection -> collection.withDocumentClass(type).insertOne(withEtag));
+        return withEtag;
+    }
+
+    public <S extends T> List<S> insert(final Iterable<S> filings) {
+        final var batch = Streamable.of(filings).map(this::withEtag).toList();
+
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        if (batch.stream().map(idMapper).anyMatch(id -> id == null)) {
+            return new ArrayList<>(mongoOperations.insert(batch, type));
+        }
+        mongoOperations.execute(type,
+                collection -> collection.withDocumentClass(type).insertMany(batch));
+        return batch;
+    }
+
+    public <S extends T> S save(final S filing) {
+        final var id = idMapper.apply(filing);
+
+        if (id == null) {
+            return mongoOperations.save(filing);
+        }
+        mongoOperations.execute(type, collection -> collection.withDocumentClass(type)
+                .replaceOne(Filters.eq(BsonFields.storedId(id)), filing, UPSERT));
+        return filing;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends T> S withEtag(final S filing) {
+        // the filing types have no subtypes, so the copy has the type of the original
+        return etagMapper.apply(filing) == null
+                ? (S) etagSetter.apply(filing, UUID.randomUUID().toString())
+                : filing;
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import java.util.Optional;
+import org.bson.Document;
+
+/**
+ * Updates to stored PSC filings that return the filing as stored, saving a read after the write.
+ *
+ * @param <T> the filing type
+ */
+public interface FilingUpdateRepository<T> {
+
+    /**
+     * Capture the stored form of a filing, to compare it with later changes.
+     *
+     * @param filing the filing
+     * @return the document that would be stored for the filing
+     */
+    Document toDocument(final T filing);
+
+    /**
+     * Write the fields that differ from the original in a single find-and-modify, provided the
+     * filing has not been changed since it was read.
+     *
+     * @param filingId the Filing ID
+     * @param etag     the etag of the filing when it was read
+     * @param original the stored form of the filing when it was read
+     * @param filing   the changed filing
+     * @return the filing as stored after the update, or empty if no filing has the ID and etag
+     */
+    Optional<T> updateByIdAndEtag(final String filingId, final String etag,
+            final Document original, final T filing);
+}
@@ -0,0 +1,36 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import java.util.Optional;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+public class FilingUpdateRepositoryImpl<T> implements FilingUpdateRepository<T> {
+    private final MongoOperations mongoOperations;
+
+    public FilingUpdateRepositoryImpl(final MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public Document toDocument(final T filing) {
+        final var document = new Document();
+
+        mongoOperations.getConverter().write(filing, document);
+        return document;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> updateByIdAndEtag(final String filingId, final String etag,
+            final Document original, final T filing) {
+        // a null etag also matches filings stored before etags were assigned
+        final var query = Query.query(Criteria.where("_id").is(filingId).and("etag").is(etag));
+        final var update = FieldUpdates.between(original, toDocument(filing));
+
+        return Optional.ofNullable(mongoOperations.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), (Class<T>) filing.getClass()));
+    }
+}
@@ -1,10 +1,53 @@
 package uk.gov.companieshouse.pscfiling.api.repository;
 
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 
 /**
  * Psc filing repository pointing towards psc_submissions database.
+ * <p>
+ * The finders return filings of every PSC type; each is backed by an index on its field.
+ * </p>
  */
 public interface PscFilingRepository extends MongoRepository<PscCommunal, String> {
+    /**
+     * The stored fields read into a {@link PscFilingSummary}.
+     */
+    String SUMMARY_FIELDS = "{ 'links' : 1, 'etag' : 1, 'psc_type' : 1, "
+            + "'reference_etag' : 1, 'reference_psc_id' : 1, 'created_at' : 1, 'updated_at' : 1 }";
+
+    /**
+     * @param transactionId the Transaction ID
+     * @return the filings in the transaction
+     */
+    @Query("{ 'transaction_id' : ?0 }")
+    List<PscCommunal> findByTransactionId(String transactionId);
+
+    /**
+     * @param companyNumber the company number
+     * @return the filings for the company
+     */
+    @Query("{ 'company_number' : ?0 }")
+    List<PscCommunal> findByCompanyNumber(String companyNumber);
+
+    /**
+     * @param referencePscId the ID of the PSC the filings refer to
+     * @return the filings for the PSC
+     */
+    @Query("{ 'reference_psc_id' : ?0 }")
+    List<PscCommunal> findByReferencePscId(String referencePscId);
+
+    /**
+     * Read the summary of a filing, only if its self link matches.
+     *
+     * @param id            the Filing ID
+     * @param selfLinkRegex a regular expression the filing self link must match
+     * @return the filing summary if found and matched
+     */
+    @Query(value = "{ '_id' : ?0, 'links.self' : { '$regex' : ?1 } }", fields = SUMMARY_FIELDS)
+    Optional<PscFilingSummary> findSummaryByIdAndSelfLink(String id, String selfLinkRegex);
 }
@@ -0,0 +1,21 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import java.util.List;
+import java.util.Optional;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.repository.codec.PscIndividualFilingCodec;
+
+/**
+ * Reads and writes individual PSC filings by ID with the {@link PscIndividualFilingCodec},
+ * in place of the repository's reflective mapping.
+ */
+public interface PscIndividualFilingCodecRepository {
+
+    Optional<PscIndividualFiling> findById(String id);
+
+    <S extends PscIndividualFiling> S insert(S filing);
+
+    <S extends PscIndividualFiling> List<S> insert(Iterable<S> filings);
+
+    <S extends PscIndividualFiling> S save(S filing);
+}
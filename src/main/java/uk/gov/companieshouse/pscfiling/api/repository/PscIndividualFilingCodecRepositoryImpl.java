@@ -0,0 +1,14 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import org.springframework.data.mongodb.core.MongoOperations;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+
+public class PscIndividualFilingCodecRepositoryImpl
+        extends FilingCodecRepositorySupport<PscIndividualFiling>
+        implements PscIndividualFilingCodecRepository {
+
+    public PscIndividualFilingCodecRepositoryImpl(final MongoOperations mongoOperations) {
+        super(mongoOperations, PscIndividualFiling.class, PscIndividualFiling::getId,
+                PscIndividualFiling::getEtag, (filing, etag) -> PscIndividualFiling.builder(filing).etag(etag).build());
+    }
+}
@@ -6,6 +6,8 @@ import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 /**
  * Psc individual filing repository pointing towards psc_submissions database.
  */
-public interface PscIndividualFilingRepository extends MongoRepository<PscIndividualFiling, String> {
+public interface PscIndividualFilingRepository
+        extends MongoRepository<PscIndividualFiling, String>,
+        FilingUpdateRepository<PscIndividualFiling>, PscIndividualFilingCodecRepository {
 
 }
@@ -0,0 +1,21 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import java.util.List;
+import java.util.Optional;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+import uk.gov.companieshouse.pscfiling.api.repository.codec.PscWithIdentificationFilingCodec;
+
+/**
+ * Reads and writes PSC with identification filings by ID with the
+ * {@link PscWithIdentificationFilingCodec}, in place of the repository's reflective mapping.
+ */
+public interface PscWithIdentificationFilingCodecRepository {
+
+    Optional<PscWithIdentificationFiling> findById(String id);
+
+    <S extends PscWithIdentificationFiling> S insert(S filing);
+
+    <S extends PscWithIdentificationFiling> List<S> insert(Iterable<S> filings);
+
+    <S extends PscWithIdentificationFiling> S save(S filing);
+}
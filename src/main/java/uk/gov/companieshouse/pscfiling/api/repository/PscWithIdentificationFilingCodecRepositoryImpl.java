@@ -0,0 +1,15 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import org.springframework.data.mongodb.core.MongoOperations;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+public class PscWithIdentificationFilingCodecRepositoryImpl
+        extends FilingCodecRepositorySupport<PscWithIdentificationFiling>
+        implements PscWithIdentificationFilingCodecRepository {
+
+    public PscWithIdentificationFilingCodecRepositoryImpl(final MongoOperations mongoOperations) {
+        super(mongoOperations, PscWithIdentificationFiling.class,
+                PscWithIdentificationFiling::getId, PscWithIdentificationFiling::getEtag,
+                (filing, etag) -> PscWithIdentificationFiling.builder(filing).etag(etag).build());
+    }
+}
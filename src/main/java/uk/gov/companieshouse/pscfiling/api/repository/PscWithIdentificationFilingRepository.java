@@ -7,5 +7,7 @@ import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFil
  * Psc with identification filing repository pointing towards psc_submissions database.
  */
 public interface PscWithIdentificationFilingRepository
-        extends MongoRepository<PscWithIdentificationFiling, String> {
+        extends MongoRepository<PscWithIdentificationFiling, String>,
+        FilingUpdateRepository<PscWithIdentificationFiling>,
+        PscWithIdentificationFilingCodecRepository {
 }
@@ -0,0 +1,156 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readFields;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readInstant;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readLocalDate;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readStrings;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeBoolean;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeDocument;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeEnum;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeId;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeInstant;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeLocalDate;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeString;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeStrings;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Address;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommon;
+
+/**
+ * Encodes and decodes a PSC filing as a top-level document, in the same form as the Spring Data
+ * mapping converter: the two can read each other's documents.
+ * <p>
+ * The common fields are handled here; subclasses handle the ID and the fields of their filing
+ * type.
+ * </p>
+ *
+ * @param <T> the filing type
+ * @param <B> the filing builder type
+ */
+public abstract class AbstractPscFilingCodec<T extends PscCommon, B extends PscCommon.Builder>
+        implements Codec<T> {
+    /**
+     * The field the mapping converter reads to choose the entity type of a filing.
+     */
+    static final String TYPE_KEY = "_class";
+
+    protected final Codec<Address> addressCodec;
+    private final Codec<Links> linksCodec;
+
+    protected AbstractPscFilingCodec(final CodecRegistry registry) {
+        this.addressCodec = registry.get(Address.class);
+        this.linksCodec = registry.get(Links.class);
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final T value,
+            final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, getId(value));
+        writeDocument(writer, "address", value.getAddress(), addressCodec, encoderContext);
+        writeBoolean(writer, "address_same_as_registered_office_address",
+                value.getAddressSameAsRegisteredOfficeAddress());
+        writeLocalDate(writer, "ceased_on", value.getCeasedOn());
+        writeString(writer, "company_number", value.getCompanyNumber());
+        writeInstant(writer, "created_at", value.getCreatedAt());
+        writeString(writer, "etag", value.getEtag());
+        writeString(writer, "kind", value.getKind());
+        writeDocument(writer, "links", value.getLinks(), linksCodec, encoderContext);
+        writeStrings(writer, "natures_of_control", value.getNaturesOfControl());
+        writeLocalDate(writer, "notified_on", value.getNotifiedOn());
+        writeEnum(writer, "psc_type", value.getPscType());
+        writeString(writer, "reference_etag", value.getReferenceEtag());
+        writeString(writer, "reference_psc_id", value.getReferencePscId());
+        writeLocalDate(writer, "register_entry_date", value.getRegisterEntryDate());
+        writeString(writer, "transaction_id", value.getTransactionId());
+        writeInstant(writer, "updated_at", value.getUpdatedAt());
+        encodeFields(writer, value, encoderContext);
+        writer.writeString(TYPE_KEY, getEncoderClass().getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        final var builder = builder();
+
+        readFields(reader, name -> decodeField(name, reader, builder, decoderContext)
+                || decodeCommonField(name, reader, builder, decoderContext));
+        return build(builder);
+    }
+
+    /**
+     * @param value the filing
+     * @return the filing ID
+     */
+    protected abstract String getId(T value);
+
+    /**
+     * @return a new builder for the filing type
+     */
+    protected abstract B builder();
+
+    /**
+     * @param builder the builder, after the stored fields are decoded
+     * @return the filing
+     */
+    protected abstract T build(B builder);
+
+    /**
+     * Write the fields of the filing type, other than its ID.
+     *
+     * @param writer         the BSON writer, positioned in the filing document
+     * @param value          the filing
+     * @param encoderContext the encoder context
+     */
+    protected abstract void encodeFields(BsonWriter writer, T value,
+            EncoderContext encoderContext);
+
+    /**
+     * Read a field of the filing type, including its ID.
+     *
+     * @param name           the field name
+     * @param reader         the BSON reader, positioned at the field value
+     * @param builder        the filing builder
+     * @param decoderContext the decoder context
+     * @return true if the field was read, false if it is not a field of the filing type
+     */
+    protected abstract boolean decodeField(String name, BsonReader reader, B builder,
+            DecoderContext decoderContext);
+
+    private boolean decodeCommonField(final String name, final BsonReader reader,
+            final B builder, final DecoderContext decoderContext) {
+        switch (name) {
+            case "address" -> builder.address(
+                    decoderContext.decodeWithChildContext(addressCodec, reader));
+            case "address_same_as_registered_office_address" ->
+                    builder.addressSameAsRegisteredOfficeAddress(reader.readBoolean());
+            case "ceased_on" -> builder.ceasedOn(readLocalDate(reader));
+            case "company_number" -> builder.companyNumber(reader.readString());
+            case "created_at" -> builder.createdAt(readInstant(reader));
+            case "etag" -> builder.etag(reader.readString());
+            case "kind" -> builder.kind(reader.readString());
+            case "links" -> builder.links(
+                    decoderContext.decodeWithChildContext(linksCodec, reader));
+            case "natures_of_control" -> builder.naturesOfControl(readStrings(reader));
+            case "notified_on" -> builder.notifiedOn(readLocalDate(reader));
+            case "psc_type" -> builder.pscType(PscTypeConstants.valueOf(reader.readString()));
+            case "reference_etag" -> builder.referenceEtag(reader.readString());
+            case "reference_psc_id" -> builder.referencePscId(reader.readString());
+            case "register_entry_date" -> builder.registerEntryDate(readLocalDate(reader));
+            case "transaction_id" -> builder.transactionId(reader.readString());
+            case "updated_at" -> builder.updatedAt(readInstant(reader));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
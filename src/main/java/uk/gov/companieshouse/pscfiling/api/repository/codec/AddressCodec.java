@@ -0,0 +1,62 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readFields;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeString;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Address;
+
+/**
+ * Encodes and decodes an {@link Address} as an embedded document.
+ */
+public class AddressCodec implements Codec<Address> {
+
+    @Override
+    public void encode(final BsonWriter writer, final Address value,
+            final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeString(writer, "address_line_1", value.getAddressLine1());
+        writeString(writer, "address_line_2", value.getAddressLine2());
+        writeString(writer, "care_of", value.getCareOf());
+        writeString(writer, "country", value.getCountry());
+        writeString(writer, "locality", value.getLocality());
+        writeString(writer, "po_box", value.getPoBox());
+        writeString(writer, "postal_code", value.getPostalCode());
+        writeString(writer, "premises", value.getPremises());
+        writeString(writer, "region", value.getRegion());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Address decode(final BsonReader reader, final DecoderContext decoderContext) {
+        final var builder = Address.builder();
+
+        readFields(reader, name -> {
+            switch (name) {
+                case "address_line_1" -> builder.addressLine1(reader.readString());
+                case "address_line_2" -> builder.addressLine2(reader.readString());
+                case "care_of" -> builder.careOf(reader.readString());
+                case "country" -> builder.country(reader.readString());
+                case "locality" -> builder.locality(reader.readString());
+                case "po_box" -> builder.poBox(reader.readString());
+                case "postal_code" -> builder.postalCode(reader.readString());
+                case "premises" -> builder.premises(reader.readString());
+                case "region" -> builder.region(reader.readString());
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return builder.build();
+    }
+
+    @Override
+    public Class<Address> getEncoderClass() {
+        return Address.class;
+    }
+}
@@ -0,0 +1,156 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+
+/**
+ * Reads and writes field values in the form the Spring Data mapping converter stores them, so
+ * that documents written by the codecs and by the converter are interchangeable.
+ */
+public final class BsonFields {
+    static final String ID = "_id";
+
+    private BsonFields() {
+        // utility class
+    }
+
+    /**
+     * @param id the entity ID
+     * @return the stored ID: an ObjectId when the ID is a valid ObjectId, otherwise the ID itself
+     */
+    public static Object storedId(final String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    /**
+     * Read each field of a document, skipping fields that are null or not read by the field
+     * reader.
+     *
+     * @param reader      the BSON reader, positioned at the start of the document
+     * @param fieldReader reads the value of a named field, returning false if it did not
+     */
+    static void readFields(final BsonReader reader, final FieldReader fieldReader) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final var name = reader.readName();
+
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            }
+            else if (!fieldReader.read(name)) {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+    }
+
+    static void writeId(final BsonWriter writer, final String id) {
+        if (id == null) {
+            return;
+        }
+        if (ObjectId.isValid(id)) {
+            writer.writeObjectId(ID, new ObjectId(id));
+        }
+        else {
+            writer.writeString(ID, id);
+        }
+    }
+
+    static String readId(final BsonReader reader) {
+        return reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                ? reader.readObjectId().toHexString()
+                : reader.readString();
+    }
+
+    static void writeString(final BsonWriter writer, final String name, final String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    static void writeEnum(final BsonWriter writer, final String name, final Enum<?> value) {
+        if (value != null) {
+            writer.writeString(name, value.name());
+        }
+    }
+
+    static void writeBoolean(final BsonWriter writer, final String name, final Boolean value) {
+        if (value != null) {
+            writer.writeBoolean(name, value);
+        }
+    }
+
+    static void writeInstant(final BsonWriter writer, final String name, final Instant value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.toEpochMilli());
+        }
+    }
+
+    static Instant readInstant(final BsonReader reader) {
+        return Instant.ofEpochMilli(reader.readDateTime());
+    }
+
+    /**
+     * Write a date as the start of the day in the system time-zone, as the Spring Data Java Time
+     * converters do.
+     */
+    static void writeLocalDate(final BsonWriter writer, final String name, final LocalDate value) {
+        if (value != null) {
+            writer.writeDateTime(name,
+                    value.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    static LocalDate readLocalDate(final BsonReader reader) {
+        return readInstant(reader).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    static void writeStrings(final BsonWriter writer, final String name,
+            final List<String> values) {
+        if (values != null) {
+            writer.writeStartArray(name);
+            values.forEach(writer::writeString);
+            writer.writeEndArray();
+        }
+    }
+
+    static List<String> readStrings(final BsonReader reader) {
+        final var values = new ArrayList<String>();
+
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            values.add(reader.readString());
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    static <T> void writeDocument(final BsonWriter writer, final String name, final T value,
+            final Encoder<T> encoder, final EncoderContext encoderContext) {
+        if (value != null) {
+            writer.writeName(name);
+            encoderContext.encodeWithChildContext(encoder, writer, value);
+        }
+    }
+
+    /**
+     * Reads the value of a named field from the current position of a BSON reader.
+     */
+    @FunctionalInterface
+    interface FieldReader {
+        /**
+         * @param name the field name
+         * @return true if the value was read, false if the field is not read
+         */
+        boolean read(String name);
+    }
+}
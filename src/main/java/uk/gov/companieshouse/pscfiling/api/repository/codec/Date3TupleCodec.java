@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readFields;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Date3Tuple;
+
+/**
+ * Encodes and decodes a {@link Date3Tuple} as an embedded document.
+ */
+public class Date3TupleCodec implements Codec<Date3Tuple> {
+
+    @Override
+    public void encode(final BsonWriter writer, final Date3Tuple value,
+            final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeInt32("day", value.day());
+        writer.writeInt32("month", value.month());
+        writer.writeInt32("year", value.year());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Date3Tuple decode(final BsonReader reader, final DecoderContext decoderContext) {
+        // day, month and year
+        final var parts = new int[3];
+
+        readFields(reader, name -> {
+            switch (name) {
+                case "day" -> parts[0] = reader.readInt32();
+                case "month" -> parts[1] = reader.readInt32();
+                case "year" -> parts[2] = reader.readInt32();
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return new Date3Tuple(parts[0], parts[1], parts[2]);
+    }
+
+    @Override
+    public Class<Date3Tuple> getEncoderClass() {
+        return Date3Tuple.class;
+    }
+}
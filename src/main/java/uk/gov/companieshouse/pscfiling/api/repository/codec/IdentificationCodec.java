@@ -0,0 +1,54 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readFields;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeString;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Identification;
+
+/**
+ * Encodes and decodes an {@link Identification} as an embedded document.
+ */
+public class IdentificationCodec implements Codec<Identification> {
+
+    @Override
+    public void encode(final BsonWriter writer, final Identification value,
+            final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeString(writer, "country_registered", value.getCountryRegistered());
+        writeString(writer, "legal_authority", value.getLegalAuthority());
+        writeString(writer, "legal_form", value.getLegalForm());
+        writeString(writer, "place_registered", value.getPlaceRegistered());
+        writeString(writer, "registration_number", value.getRegistrationNumber());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Identification decode(final BsonReader reader, final DecoderContext decoderContext) {
+        final var builder = Identification.builder();
+
+        readFields(reader, name -> {
+            switch (name) {
+                case "country_registered" -> builder.countryRegistered(reader.readString());
+                case "legal_authority" -> builder.legalAuthority(reader.readString());
+                case "legal_form" -> builder.legalForm(reader.readString());
+                case "place_registered" -> builder.placeRegistered(reader.readString());
+                case "registration_number" -> builder.registrationNumber(reader.readString());
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return builder.build();
+    }
+
+    @Override
+    public Class<Identification> getEncoderClass() {
+        return Identification.class;
+    }
+}
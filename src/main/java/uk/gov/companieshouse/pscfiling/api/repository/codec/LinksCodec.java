@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readFields;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeString;
+
+import java.net.URI;
+import java.util.Objects;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+
+/**
+ * Encodes and decodes filing {@link Links} as an embedded document, storing each link as a
+ * string.
+ */
+public class LinksCodec implements Codec<Links> {
+
+    @Override
+    public void encode(final BsonWriter writer, final Links value,
+            final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeString(writer, "self", Objects.toString(value.self(), null));
+        writeString(writer, "validation_status", Objects.toString(value.validationStatus(), null));
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Links decode(final BsonReader reader, final DecoderContext decoderContext) {
+        // self and validation status
+        final var uris = new URI[2];
+
+        readFields(reader, name -> {
+            switch (name) {
+                case "self" -> uris[0] = URI.create(reader.readString());
+                case "validation_status" -> uris[1] = URI.create(reader.readString());
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return new Links(uris[0], uris[1]);
+    }
+
+    @Override
+    public Class<Links> getEncoderClass() {
+        return Links.class;
+    }
+}
@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readFields;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeString;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import uk.gov.companieshouse.pscfiling.api.model.entity.NameElements;
+
+/**
+ * Encodes and decodes {@link NameElements} as an embedded document.
+ */
+public class NameElementsCodec implements Codec<NameElements> {
+
+    @Override
+    public void encode(final BsonWriter writer, final NameElements value,
+            final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeString(writer, "forename", value.getForename());
+        writeString(writer, "other_forenames", value.getOtherForenames());
+        writeString(writer, "surname", value.getSurname());
+        writeString(writer, "title", value.getTitle());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public NameElements decode(final BsonReader reader, final DecoderContext decoderContext) {
+        final var builder = NameElements.builder();
+
+        readFields(reader, name -> {
+            switch (name) {
+                case "forename" -> builder.forename(reader.readString());
+                case "other_forenames" -> builder.otherForenames(reader.readString());
+                case "surname" -> builder.surname(reader.readString());
+                case "title" -> builder.title(reader.readString());
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return builder.build();
+    }
+
+    @Override
+    public Class<NameElements> getEncoderClass() {
+        return NameElements.class;
+    }
+}
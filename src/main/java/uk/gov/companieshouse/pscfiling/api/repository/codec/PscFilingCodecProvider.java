@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Address;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Date3Tuple;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Identification;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.NameElements;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+/**
+ * Provides the codecs for the PSC filing entities and the types they embed.
+ */
+public class PscFilingCodecProvider implements CodecProvider {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
+        final Codec<?> codec;
+
+        if (clazz == PscIndividualFiling.class) {
+            codec = new PscIndividualFilingCodec(registry);
+        }
+        else if (clazz == PscWithIdentificationFiling.class) {
+            codec = new PscWithIdentificationFilingCodec(registry);
+        }
+        else if (clazz == Address.class) {
+            codec = new AddressCodec();
+        }
+        else if (clazz == Date3Tuple.class) {
+            codec = new Date3TupleCodec();
+        }
+        else if (clazz == Identification.class) {
+            codec = new IdentificationCodec();
+        }
+        else if (clazz == Links.class) {
+            codec = new LinksCodec();
+        }
+        else if (clazz == NameElements.class) {
+            codec = new NameElementsCodec();
+        }
+        else {
+            codec = null;
+        }
+        return (Codec<T>) codec;
+    }
+}
@@ -0,0 +1,94 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readId;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readLocalDate;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeBoolean;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeDocument;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeLocalDate;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeString;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Date3Tuple;
+import uk.gov.companieshouse.pscfiling.api.model.entity.NameElements;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+
+/**
+ * Encodes and decodes a {@link PscIndividualFiling} without reflective mapping.
+ */
+public class PscIndividualFilingCodec
+        extends AbstractPscFilingCodec<PscIndividualFiling, PscIndividualFiling.Builder> {
+    private final Codec<Date3Tuple> date3TupleCodec;
+    private final Codec<NameElements> nameElementsCodec;
+
+    public PscIndividualFilingCodec(final CodecRegistry registry) {
+        super(registry);
+        this.date3TupleCodec = registry.get(Date3Tuple.class);
+        this.nameElementsCodec = registry.get(NameElements.class);
+    }
+
+    @Override
+    public Class<PscIndividualFiling> getEncoderClass() {
+        return PscIndividualFiling.class;
+    }
+
+    @Override
+    protected String getId(final PscIndividualFiling value) {
+        return value.getId();
+    }
+
+    @Override
+    protected PscIndividualFiling.Builder builder() {
+        return PscIndividualFiling.builder();
+    }
+
+    @Override
+    protected PscIndividualFiling build(final PscIndividualFiling.Builder builder) {
+        return builder.build();
+    }
+
+    @Override
+    protected void encodeFields(final BsonWriter writer, final PscIndividualFiling value,
+            final EncoderContext encoderContext) {
+        writeString(writer, "country_of_residence", value.getCountryOfResidence());
+        writeDocument(writer, "date_of_birth", value.getDateOfBirth(), date3TupleCodec,
+                encoderContext);
+        writeDocument(writer, "name_elements", value.getNameElements(), nameElementsCodec,
+                encoderContext);
+        writeString(writer, "nationality", value.getNationality());
+        writeDocument(writer, "residential_address", value.getResidentialAddress(),
+                addressCodec, encoderContext);
+        writeBoolean(writer, "residential_address_same_as_correspondence_address",
+                value.getResidentialAddressSameAsCorrespondenceAddress());
+        writeLocalDate(writer, "statement_action_date", value.getStatementActionDate());
+        writeString(writer, "statement_type", value.getStatementType());
+    }
+
+    @Override
+    protected boolean decodeField(final String name, final BsonReader reader,
+            final PscIndividualFiling.Builder builder, final DecoderContext decoderContext) {
+        switch (name) {
+            case BsonFields.ID -> builder.id(readId(reader));
+            case "country_of_residence" -> builder.countryOfResidence(reader.readString());
+            case "date_of_birth" -> builder.dateOfBirth(
+                    decoderContext.decodeWithChildContext(date3TupleCodec, reader));
+            case "name_elements" -> builder.nameElements(
+                    decoderContext.decodeWithChildContext(nameElementsCodec, reader));
+            case "nationality" -> builder.nationality(reader.readString());
+            case "residential_address" -> builder.residentialAddress(
+                    decoderContext.decodeWithChildContext(addressCodec, reader));
+            case "residential_address_same_as_correspondence_address" ->
+                    builder.residentialAddressSameAsCorrespondenceAddress(reader.readBoolean());
+            case "statement_action_date" -> builder.statementActionDate(readLocalDate(reader));
+            case "statement_type" -> builder.statementType(reader.readString());
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
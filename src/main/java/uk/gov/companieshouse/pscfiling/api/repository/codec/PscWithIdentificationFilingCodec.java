@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readId;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.readLocalDate;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeDocument;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeLocalDate;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.BsonFields.writeString;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Identification;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+/**
+ * Encodes and decodes a {@link PscWithIdentificationFiling} without reflective mapping.
+ */
+public class PscWithIdentificationFilingCodec extends
+        AbstractPscFilingCodec<PscWithIdentificationFiling, PscWithIdentificationFiling.Builder> {
+    private final Codec<Identification> identificationCodec;
+
+    public PscWithIdentificationFilingCodec(final CodecRegistry registry) {
+        super(registry);
+        this.identificationCodec = registry.get(Identification.class);
+    }
+
+    @Override
+    public Class<PscWithIdentificationFiling> getEncoderClass() {
+        return PscWithIdentificationFiling.class;
+    }
+
+    @Override
+    protected String getId(final PscWithIdentificationFiling value) {
+        return value.getId();
+    }
+
+    @Override
+    protected PscWithIdentificationFiling.Builder builder() {
+        return PscWithIdentificationFiling.builder();
+    }
+
+    @Override
+    protected PscWithIdentificationFiling build(
+            final PscWithIdentificationFiling.Builder builder) {
+        return builder.build();
+    }
+
+    @Override
+    protected void encodeFields(final BsonWriter writer, final PscWithIdentificationFiling value,
+            final EncoderContext encoderContext) {
+        writeDocument(writer, "identification", value.getIdentification(), identificationCodec,
+                encoderContext);
+        writeString(writer, "name", value.getName());
+        writeLocalDate(writer, "statement_action_date", value.getStatementActionDate());
+        writeString(writer, "statement_type", value.getStatementType());
+    }
+
+    @Override
+    protected boolean decodeField(final String name, final BsonReader reader,
+            final PscWithIdentificationFiling.Builder builder,
+            final DecoderContext decoderContext) {
+        switch (name) {
+            case BsonFields.ID -> builder.id(readId(reader));
+            case "identification" -> builder.identification(
+                    decoderContext.decodeWithChildContext(identificationCodec, reader));
+            case "name" -> builder.name(reader.readString());
+            case "statement_action_date" -> builder.statementActionDate(readLocalDate(reader));
+            case "statement_type" -> builder.statementType(reader.readString());
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.pscfiling.api.service;
 
+import java.util.List;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
@@ -18,4 +19,13 @@ public interface FilingDataService {
      */
     FilingApi generatePscFiling(String filingId, final PscTypeConstants pscType,
             Transaction transaction, String passthroughHeader);
+
+    /**
+     * Generate the filing data for every PSC filing in a transaction.
+     *
+     * @param transaction       the transaction listing the filings as resources
+     * @param passthroughHeader the Http header
+     * @return the filing data details, in the order of the transaction resources
+     */
+    List<FilingApi> generatePscFilings(Transaction transaction, String passthroughHeader);
 }
@@ -0,0 +1,99 @@
+package uk.gov.companieshouse.pscfiling.api.service;
+
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.pscfiling.api.config.FilingDataConfig;
+import uk.gov.companieshouse.pscfiling.api.model.FilingKind;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.dto.FilingDtoCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.dto.IndividualFilingDataDto;
+import uk.gov.companieshouse.pscfiling.api.model.dto.WithIdentificationFilingDataDto;
+
+/**
+ * Renders the filing description for each filing kind and PSC type.
+ * <p>
+ * The description templates are parsed once, when the renderer is created; to support another
+ * filing kind, register its template and the fields it describes in the constructor.
+ * </p>
+ */
+@Component
+public class FilingDescriptionRenderer {
+    private static final DateTimeFormatter DESCRIPTION_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("d MMMM yyyy");
+
+    private final Map<FilingKind, Map<PscTypeConstants, DescriptionTemplate>> templates =
+            new EnumMap<>(FilingKind.class);
+
+    public FilingDescriptionRenderer(final FilingDataConfig filingDataConfig) {
+        final var psc07 = new MessageFormat(filingDataConfig.getPsc07Description());
+        final var cessations = new EnumMap<PscTypeConstants, DescriptionTemplate>(
+                PscTypeConstants.class);
+
+        cessations.put(PscTypeConstants.INDIVIDUAL, new DescriptionTemplate(psc07,
+                IndividualFilingDataDto.class, FilingDescriptionRenderer::individualName,
+                IndividualFilingDataDto::getCeasedOn));
+        cessations.put(PscTypeConstants.CORPORATE_ENTITY, new DescriptionTemplate(psc07,
+                WithIdentificationFilingDataDto.class, WithIdentificationFilingDataDto::getName,
+                WithIdentificationFilingDataDto::getCeasedOn));
+        cessations.put(PscTypeConstants.LEGAL_PERSON, new DescriptionTemplate(psc07,
+                WithIdentificationFilingDataDto.class, WithIdentificationFilingDataDto::getName,
+                WithIdentificationFilingDataDto::getCeasedOn));
+        templates.put(FilingKind.PSC_CESSATION, cessations);
+    }
+
+    /**
+     * Render the description of a filing.
+     *
+     * @param kind       the filing kind
+     * @param pscType    the PSC type
+     * @param filingData the filing data
+     * @return the filing description
+     *
+     * @throws UnsupportedOperationException if there is no template for the kind and PSC type
+     */
+    public String render(final FilingKind kind, final PscTypeConstants pscType,
+            final FilingDtoCommunal filingData) {
+        final var kindTemplates = templates.get(kind);
+        final var template = kindTemplates == null ? null : kindTemplates.get(pscType);
+
+        if (template == null) {
+            throw new UnsupportedOperationException(
+                    MessageFormat.format("No description for {0} PSC type {1}", kind, pscType));
+        }
+        return template.render(filingData);
+    }
+
+    private static String individualName(final IndividualFilingDataDto filingData) {
+        return Stream.of(filingData.getTitle(), filingData.getFirstName(),
+                        filingData.getOtherForenames(), filingData.getLastName())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "))
+                .trim();
+    }
+
+    private record DescriptionTemplate(MessageFormat format, Function<Object, String> name,
+                                       Function<Object, String> date) {
+
+        <T> DescriptionTemplate(final MessageFormat format, final Class<T> dataType,
+                final Function<T, String> name, final Function<T, String> date) {
+            this(format, name.compose(dataType::cast), date.compose(dataType::cast));
+        }
+
+        String render(final FilingDtoCommunal filingData) {
+            final var strDate = LocalDate.parse(date.apply(filingData))
+                    .format(DESCRIPTION_DATE_FORMAT);
+
+            // MessageFormat is not thread-safe: format with a copy of the parsed template
+            return ((MessageFormat) format.clone()).format(
+                    new Object[]{name.apply(filingData), strDate});
+        }
+    }
+}
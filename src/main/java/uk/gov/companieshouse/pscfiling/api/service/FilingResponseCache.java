@@ -0,0 +1,81 @@
+package uk.gov.companieshouse.pscfiling.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.pscfiling.api.config.FilingResponseCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+
+/**
+ * Holds the JSON response body for each filing, bounded by size and time to live.
+ * <p>
+ * Each body is kept with the filing etag it was written for, and is only reused while the etag
+ * is unchanged. Filing updates should {@link #invalidate} the body straight away.
+ * </p>
+ */
+@Component
+public class FilingResponseCache {
+    static final String CACHE_NAME = "filing_responses";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, EncodedFiling> cache;
+
+    public FilingResponseCache(final ObjectMapper objectMapper,
+            final FilingResponseCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Return the JSON for the filing, writing it only if there is none for the current filing
+     * etag. The bytes are shared between requests and must not be modified.
+     *
+     * @param filingId the filing ID
+     * @param filing   the filing
+     * @return the filing as JSON
+     */
+    public byte[] get(final String filingId, final PscCommunal filing) {
+        final var etag = filing.getEtag();
+        final var cached = cache.getIfPresent(filingId);
+
+        if (cached != null && Objects.equals(cached.etag(), etag)) {
+            return cached.json();
+        }
+        final var json = write(filing);
+
+        cache.put(filingId, new EncodedFiling(etag, json));
+        return json;
+    }
+
+    /**
+     * Discard the JSON for a filing.
+     *
+     * @param filingId the filing ID
+     */
+    public void invalidate(final String filingId) {
+        cache.invalidate(filingId);
+    }
+
+    private byte[] write(final PscCommunal filing) {
+        try {
+            return objectMapper.writeValueAsBytes(filing);
+        }
+        catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record EncodedFiling(String etag, byte[] json) {
+    }
+}
@@ -21,4 +21,20 @@ public interface PscDetailsService {
      */
     PscApi getPscDetails(Transaction transaction, String pscId, PscTypeConstants pscType, final String ericPassThroughHeader)
             throws PscServiceException;
+
+    /**
+     * Retrieve a PSC by ID from the PSC API, bypassing any copy held by a caching layer.
+     *
+     * @param transaction       the Transaction
+     * @param pscId             the PSC Id
+     * @param pscType           the PSC Type
+     * @param ericPassThroughHeader includes authorisation for transaction fetch
+     * @return the PSC details if found
+     * @throws PscServiceException if PSC details not found or an error occurred
+     */
+    default PscApi refreshPscDetails(final Transaction transaction, final String pscId,
+            final PscTypeConstants pscType, final String ericPassThroughHeader)
+            throws PscServiceException {
+        return getPscDetails(transaction, pscId, pscType, ericPassThroughHeader);
+    }
 }
@@ -1,8 +1,10 @@
 package uk.gov.companieshouse.pscfiling.api.service;
 
+import java.util.List;
 import java.util.Optional;
 import jakarta.servlet.http.HttpServletRequest;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 
@@ -35,5 +37,31 @@ public interface PscFilingService {
      */
     Optional<PscCommunal> get(String pscFilingId);
 
+    /**
+     * Retrieve the stored PSCFiling entities in a transaction, in one query.
+     *
+     * @param transactionId the Transaction ID
+     * @return the stored entities found, in no particular order
+     */
+    List<PscCommunal> getAllInTransaction(String transactionId);
+
+    /**
+     * Retrieve the summary of a stored PSCFiling entity in a transaction, without its filing data.
+     *
+     * @param pscFilingId   the Filing ID
+     * @param transactionId the Transaction ID
+     * @return the stored entity summary if found in the transaction
+     */
+    Optional<PscFilingSummary> getSummary(String pscFilingId, String transactionId);
+
     boolean requestMatchesResourceSelf(HttpServletRequest request, PscCommunal pscFiling);
+
+    /**
+     * Check the request URI against the self link of a stored PSCFiling entity summary.
+     *
+     * @param request       the servlet request
+     * @param summary       the stored entity summary
+     * @return true if the request URI is the filing self link
+     */
+    boolean requestMatchesResourceSelf(HttpServletRequest request, PscFilingSummary summary);
 }
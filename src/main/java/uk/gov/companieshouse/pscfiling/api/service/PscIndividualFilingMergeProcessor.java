@@ -1,16 +1,16 @@
 package uk.gov.companieshouse.pscfiling.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import uk.gov.companieshouse.patch.service.MergeProcessor;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 
 @Component
-public class PscIndividualFilingMergeProcessor implements MergeProcessor<PscIndividualFiling> {
+public class PscIndividualFilingMergeProcessor {
     private final ObjectMapper patchObjectMapper;
 
     @Autowired
@@ -19,13 +19,26 @@ public class PscIndividualFilingMergeProcessor implements MergeProcessor<PscIndi
         this.patchObjectMapper = patchObjectMapper;
     }
 
-    @Override
+    /**
+     * Apply a JSON merge patch to a filing, updating the filing in place.
+     *
+     * @param target     the filing to update
+     * @param mergePatch the merge patch, as parsed from the request body
+     * @return the updated filing
+     * @throws IOException if the patch cannot be applied to the filing
+     */
     public PscIndividualFiling mergeEntity(final PscIndividualFiling target,
-            final Map<String, Object> patchMap) throws IOException {
-        final var json = patchObjectMapper.writeValueAsString(patchMap);
-        final var patched = patchObjectMapper.readerForUpdating(target).readValue(json);
-
-        return (PscIndividualFiling) patched;
+            final JsonNode mergePatch) throws IOException {
+        try {
+            // merge straight from the tree: no intermediate JSON string to write and parse again
+            return patchObjectMapper.readerForUpdating(target).readValue(mergePatch);
+        }
+        catch (final JsonProcessingException e) {
+            // a tree has no source location: apply the patch again from its text, so that the
+            // error reports the offset, line and column where the patch could not be applied
+            return patchObjectMapper.readerForUpdating(target)
+                    .readValue(patchObjectMapper.writeValueAsString(mergePatch));
+        }
     }
 
 }
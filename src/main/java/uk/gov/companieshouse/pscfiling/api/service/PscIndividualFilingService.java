@@ -1,15 +1,16 @@
 package uk.gov.companieshouse.pscfiling.api.service;
 
-import java.util.Map;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
 import java.util.Optional;
-import uk.gov.companieshouse.patch.model.PatchResult;
-import uk.gov.companieshouse.patch.service.PatchService;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 
 /**
  * Psc individual filing service layer.
  */
-public interface PscIndividualFilingService extends PatchService<PscIndividualFiling> {
+public interface PscIndividualFilingService {
 
     /**
      * Store a PSCIndividualFiling entity in persistence layer.
@@ -19,6 +20,22 @@ public interface PscIndividualFilingService extends PatchService<PscIndividualFi
      */
     PscIndividualFiling save(final PscIndividualFiling filing);
 
+    /**
+     * Store a new PSCIndividualFiling entity in persistence layer with a single insert.
+     *
+     * @param filing the PSCIndividualFiling entity to store, with its ID already assigned
+     * @return the stored entity
+     */
+    PscIndividualFiling insert(final PscIndividualFiling filing);
+
+    /**
+     * Store new PSCIndividualFiling entities in persistence layer with a single bulk insert.
+     *
+     * @param filings the PSCIndividualFiling entities to store, with their IDs already assigned
+     * @return the stored entities, in the same order
+     */
+    List<PscIndividualFiling> insertAll(final List<PscIndividualFiling> filings);
+
     /**
      * Retrieve a stored PSCIndividualFiling entity by Filing ID.
      *
@@ -28,12 +45,31 @@ public interface PscIndividualFilingService extends PatchService<PscIndividualFi
     Optional<PscIndividualFiling> get(final String filingId);
 
     /**
-     * Update a PSCFiling entity by Filing ID.
+     * Update a PscIndividualFiling entity already retrieved by the caller, without retrieving it again.
      *
-     * @param filingId   the Filing ID
-     * @param patchMap   a list of parameters to include in the patch
-     * @return the patch result
+     * @param filing     the stored entity
+     * @param mergePatch the merge patch to apply (RFC 7396)
+     * @return the patch result, with the entity as stored if the patch succeeded
+     */
+    FilingPatchResult<PscIndividualFiling> patch(final PscIndividualFiling filing, final JsonNode mergePatch);
+
+    /**
+     * Update a PscIndividualFiling entity already retrieved by the caller, only if it has not
+     * changed since, and without retrying.
+     *
+     * @param filing     the stored entity
+     * @param mergePatch the merge patch to apply (RFC 7396)
+     * @return the patch result, with the entity as stored if the patch succeeded
+     * @throws FilingPreconditionFailedException if the entity has changed since it was retrieved
+     */
+    FilingPatchResult<PscIndividualFiling> patchIfUnchanged(
+            final PscIndividualFiling filing, final JsonNode mergePatch);
+
+    /**
+     * Retrieve the number of times a patch is retried when the filing keeps changing.
+     *
+     * @return the maximum number of retries
      */
-    PatchResult patch(final String filingId, final Map<String, Object> patchMap);
+    int getMaxRetries();
 
 }
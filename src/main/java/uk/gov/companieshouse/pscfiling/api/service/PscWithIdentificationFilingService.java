@@ -1,15 +1,15 @@
 package uk.gov.companieshouse.pscfiling.api.service;
 
-import java.util.Map;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.Optional;
-import uk.gov.companieshouse.patch.model.PatchResult;
-import uk.gov.companieshouse.patch.service.PatchService;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 
 /**
  * Psc with identification filing service layer.
  */
-public interface PscWithIdentificationFilingService extends PatchService<PscWithIdentificationFiling> {
+public interface PscWithIdentificationFilingService {
 
     /**
      * Store a PSCWithIdentificationFiling entity in persistence layer.
@@ -19,6 +19,14 @@ public interface PscWithIdentificationFilingService extends PatchService<PscWith
      */
     PscWithIdentificationFiling save(final PscWithIdentificationFiling filing);
 
+    /**
+     * Store a new PSCWithIdentificationFiling entity in persistence layer with a single insert.
+     *
+     * @param filing the PSCWithIdentificationFiling entity to store, with its ID already assigned
+     * @return the stored entity
+     */
+    PscWithIdentificationFiling insert(final PscWithIdentificationFiling filing);
+
     /**
      * Retrieve a stored PSCWithIdentificationFiling entity by Filing ID.
      *
@@ -28,12 +36,31 @@ public interface PscWithIdentificationFilingService extends PatchService<PscWith
     Optional<PscWithIdentificationFiling> get(final String filingId);
 
     /**
-     * Update a PSCFiling entity by Filing ID.
+     * Update a PscWithIdentificationFiling entity already retrieved by the caller, without retrieving it again.
      *
-     * @param filingId   the Filing ID
-     * @param patchMap   a list of parameters to include in the patch
-     * @return the patch result
+     * @param filing     the stored entity
+     * @param mergePatch the merge patch to apply (RFC 7396)
+     * @return the patch result, with the entity as stored if the patch succeeded
+     */
+    FilingPatchResult<PscWithIdentificationFiling> patch(final PscWithIdentificationFiling filing, final JsonNode mergePatch);
+
+    /**
+     * Update a PscWithIdentificationFiling entity already retrieved by the caller, only if it
+     * has not changed since, and without retrying.
+     *
+     * @param filing     the stored entity
+     * @param mergePatch the merge patch to apply (RFC 7396)
+     * @return the patch result, with the entity as stored if the patch succeeded
+     * @throws FilingPreconditionFailedException if the entity has changed since it was retrieved
+     */
+    FilingPatchResult<PscWithIdentificationFiling> patchIfUnchanged(
+            final PscWithIdentificationFiling filing, final JsonNode mergePatch);
+
+    /**
+     * Retrieve the number of times a patch is retried when the filing keeps changing.
+     *
+     * @return the maximum number of retries
      */
-    PatchResult patch(final String filingId, final Map<String, Object> patchMap);
+    int getMaxRetries();
 
 }
@@ -0,0 +1,111 @@
+package uk.gov.companieshouse.pscfiling.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.pscfiling.api.config.ValidationResultCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
+
+/**
+ * Holds the latest validation result for each filing, bounded by size and time to live.
+ * <p>
+ * Each result is kept with the filing etag and the etag of the PSC it refers to when it was
+ * calculated, and is only reused while both are unchanged. Filing updates should
+ * {@link #invalidate} the result straight away.
+ * </p>
+ */
+@Component
+public class ValidationResultCache {
+    static final String CACHE_NAME = "validation_results";
+
+    private final PscDetailsService pscDetailsService;
+    private final Cache<String, ValidationResult> cache;
+
+    public ValidationResultCache(final PscDetailsService pscDetailsService,
+            final ValidationResultCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.pscDetailsService = pscDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Return the validation errors for the filing, validating it only if there is no result for
+     * the current filing etag and PSC etag.
+     *
+     * @param filingId          the filing ID
+     * @param filing            the filing summary
+     * @param pscType           the PSC type
+     * @param transaction       the Transaction
+     * @param passthroughHeader the request passthrough header
+     * @param validation        validates the filing
+     * @return the validation errors, empty if the filing is valid
+     */
+    public ValidationStatusError[] get(final String filingId, final PscFilingSummary filing,
+            final PscTypeConstants pscType, final Transaction transaction,
+            final String passthroughHeader, final Supplier<ValidationStatusError[]> validation) {
+        final var pscEtag = pscEtag(filing, pscType, transaction, passthroughHeader);
+
+        if (filingId == null || pscEtag == null) {
+            return validation.get();
+        }
+        final var cached = cache.getIfPresent(filingId);
+
+        if (cached != null && cached.matches(filing.etag(), pscEtag)) {
+            return cached.errors().clone();
+        }
+        final var errors = validation.get();
+        // validation may have refreshed the PSC details: key the result by the etag it used
+        final var validatedPscEtag = pscEtag(filing, pscType, transaction, passthroughHeader);
+
+        if (validatedPscEtag != null) {
+            cache.put(filingId,
+                    new ValidationResult(filing.etag(), validatedPscEtag, errors.clone()));
+        }
+        return errors;
+    }
+
+    /**
+     * Discard the validation result for a filing.
+     *
+     * @param filingId the filing ID
+     */
+    public void invalidate(final String filingId) {
+        cache.invalidate(filingId);
+    }
+
+    private String pscEtag(final PscFilingSummary filing, final PscTypeConstants pscType,
+            final Transaction transaction, final String passthroughHeader) {
+        final var pscId = filing.referencePscId();
+
+        if (pscId == null) {
+            return null;
+        }
+        try {
+            return pscDetailsService.getPscDetails(transaction, pscId, pscType,
+                    passthroughHeader).getEtag();
+        }
+        catch (final RuntimeException e) {
+            // left to validation to report
+            return null;
+        }
+    }
+
+    private record ValidationResult(String filingEtag, String pscEtag,
+                                    ValidationStatusError[] errors) {
+
+        boolean matches(final String filingEtag, final String pscEtag) {
+            return Objects.equals(this.filingEtag, filingEtag) && this.pscEtag.equals(pscEtag);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscfiling.api.config.CompanyProfileCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.exception.CompanyProfileServiceException;
+import uk.gov.companieshouse.pscfiling.api.service.CompanyProfileService;
+import uk.gov.companieshouse.pscfiling.api.utils.CopyHelper;
+import uk.gov.companieshouse.pscfiling.api.utils.LogHelper;
+
+/**
+ * Holds company profiles so that {@code CompanyInterceptor} does not call the company profile
+ * API on every request.
+ * <p>
+ * Profiles are retrieved with the caller's passthrough authorisation, so entries are keyed by
+ * that passthrough header as well as by the company number: a caller is only served a profile
+ * the company profile API returned for its own authorisation. The same policy keys the calls
+ * shared by {@link CompanyProfileServiceImpl} and the PSC details cache. A background refresh
+ * therefore always uses the passthrough header of the entry it refreshes. Callers get their own
+ * copy of the cached profile, which they may change.
+ * </p>
+ * <ul>
+ *     <li>within the time to live, the cached profile is served</li>
+ *     <li>within the stale-while-revalidate window after that, the cached profile is served and
+ *     a single background refresh is started</li>
+ *     <li>otherwise the profile is retrieved; if that fails within the stale-if-error window, the
+ *     last good profile is served instead</li>
+ * </ul>
+ */
+@Service
+@Primary
+public class CachedCompanyProfileService implements CompanyProfileService {
+    static final String METRIC_NAME = "company.profile.cache.requests";
+
+    private final CompanyProfileService companyProfileService;
+    private final CompanyProfileCacheProperties properties;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Logger logger;
+    private final Cache<CompanyProfileKey, CachedProfile> cache;
+    private final Set<CompanyProfileKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleHits;
+
+    public CachedCompanyProfileService(
+            @Qualifier("companyProfileServiceImpl") final CompanyProfileService companyProfileService,
+            final CompanyProfileCacheProperties properties, final Clock clock,
+            @Qualifier("applicationTaskExecutor") final Executor refreshExecutor,
+            final MeterRegistry meterRegistry, final Logger logger) {
+        this.companyProfileService = companyProfileService;
+        this.properties = properties;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.logger = logger;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive()
+                        .plus(max(properties.getStaleWhileRevalidate(),
+                                properties.getStaleIfError())))
+                .build();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.staleHits = counter(meterRegistry, "stale");
+    }
+
+    @Override
+    public CompanyProfileApi getCompanyProfile(final Transaction transaction,
+            final String ericPassThroughHeader) throws CompanyProfileServiceException {
+        final var cached =
+                cache.getIfPresent(CompanyProfileKey.of(transaction, ericPassThroughHeader));
+
+        if (cached == null) {
+            misses.increment();
+            return retrieve(transaction, ericPassThroughHeader);
+        }
+        final var age = Duration.between(cached.retrievedAt(), clock.instant());
+
+        if (age.compareTo(properties.getTimeToLive()) <= 0) {
+            hits.increment();
+            return copy(cached.profile());
+        }
+        if (age.compareTo(properties.getTimeToLive().plus(properties.getStaleWhileRevalidate()))
+                <= 0) {
+            staleHits.increment();
+            refreshInBackground(transaction, ericPassThroughHeader);
+            return copy(cached.profile());
+        }
+        misses.increment();
+        try {
+            return retrieve(transaction, ericPassThroughHeader);
+        }
+        catch (final CompanyProfileServiceException e) {
+            if (age.compareTo(properties.getTimeToLive().plus(properties.getStaleIfError())) > 0) {
+                throw e;
+            }
+            logger.errorContext(transaction.getId(), "Serving stale company profile", e,
+                    LogHelper.createLogMap(transaction.getId()));
+            staleHits.increment();
+            return copy(cached.profile());
+        }
+    }
+
+    private CompanyProfileApi retrieve(final Transaction transaction,
+            final String ericPassThroughHeader) {
+        final var profile =
+                companyProfileService.getCompanyProfile(transaction, ericPassThroughHeader);
+
+        if (profile != null) {
+            cache.put(CompanyProfileKey.of(transaction, ericPassThroughHeader),
+                    new CachedProfile(copy(profile), clock.instant()));
+        }
+        return profile;
+    }
+
+    private void refreshInBackground(final Transaction transaction,
+            final String ericPassThroughHeader) {
+        final var key = CompanyProfileKey.of(transaction, ericPassThroughHeader);
+
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    retrieve(transaction, ericPassThroughHeader);
+                }
+                catch (final RuntimeException e) {
+                    logger.errorContext(transaction.getId(), "Company profile refresh failed", e,
+                            LogHelper.createLogMap(transaction.getId()));
+                }
+                finally {
+                    refreshing.remove(key);
+                }
+            });
+        }
+        catch (final RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static Counter counter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Company profile lookups by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static CompanyProfileApi copy(final CompanyProfileApi profile) {
+        return CopyHelper.deepCopy(profile, CompanyProfileApi.class);
+    }
+
+    private static Duration max(final Duration first, final Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private record CachedProfile(CompanyProfileApi profile, Instant retrievedAt) {
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.model.psc.PscApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.pscfiling.api.config.PscDetailsCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.exception.PscServiceException;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
+import uk.gov.companieshouse.pscfiling.api.utils.CopyHelper;
+
+/**
+ * Holds recently retrieved PSC details across requests, bounded by size and time to live.
+ * <p>
+ * PSC details are retrieved with the caller's passthrough authorisation, so entries are keyed
+ * by that passthrough header as well as by the PSC: a caller is only served details the PSC API
+ * returned for its own authorisation, never a copy retrieved for somebody else. The same policy
+ * keys the calls shared by {@link PscDetailsServiceImpl}. Callers get their own copy of the
+ * cached details, which they may change.
+ * </p>
+ * <p>
+ * Each entry carries the etag returned by the PSC API. Callers that find the etag does not match
+ * the one they hold should use {@link #refreshPscDetails} to revalidate against the PSC API,
+ * which also replaces the cached copy.
+ * </p>
+ */
+@Service
+public class CachedPscDetailsService implements PscDetailsService {
+    static final String CACHE_NAME = "psc_details";
+
+    private final PscDetailsService pscDetailsService;
+    private final Cache<PscDetailsKey, PscApi> cache;
+
+    public CachedPscDetailsService(
+            @Qualifier("pscDetailsServiceImpl") final PscDetailsService pscDetailsService,
+            final PscDetailsCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.pscDetailsService = pscDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Retrieve a PSC by ID, using the cached copy if one has not expired.
+     *
+     * @param transaction           the Transaction
+     * @param pscId                 the PSC Id
+     * @param pscType               the PSC Type
+     * @param ericPassThroughHeader includes authorisation for transaction fetch
+     * @return the PSC details if found
+     *
+     * @throws PscServiceException if PSC details not found or an error occurred
+     */
+    @Override
+    public PscApi getPscDetails(final Transaction transaction, final String pscId,
+            final PscTypeConstants pscType, final String ericPassThroughHeader)
+            throws PscServiceException {
+        final var cached = cache.getIfPresent(
+                PscDetailsKey.of(transaction, pscType, pscId, ericPassThroughHeader));
+
+        if (cached != null) {
+            return CopyHelper.deepCopy(cached, PscApi.class);
+        }
+        return refreshPscDetails(transaction, pscId, pscType, ericPassThroughHeader);
+    }
+
+    /**
+     * Retrieve a PSC by ID from the PSC API and replace any cached copy.
+     *
+     * @param transaction           the Transaction
+     * @param pscId                 the PSC Id
+     * @param pscType               the PSC Type
+     * @param ericPassThroughHeader includes authorisation for transaction fetch
+     * @return the PSC details if found
+     *
+     * @throws PscServiceException if PSC details not found or an error occurred
+     */
+    @Override
+    public PscApi refreshPscDetails(final Transaction transaction, final String pscId,
+            final PscTypeConstants pscType, final String ericPassThroughHeader)
+            throws PscServiceException {
+        final var key = PscDetailsKey.of(transaction, pscType, pscId, ericPassThroughHeader);
+
+        cache.invalidate(key);
+
+        final var pscDetails =
+                pscDetailsService.getPscDetails(transaction, pscId, pscType, ericPassThroughHeader);
+
+        if (pscDetails != null) {
+            cache.put(key, CopyHelper.deepCopy(pscDetails, PscApi.class));
+        }
+        return pscDetails;
+    }
+}
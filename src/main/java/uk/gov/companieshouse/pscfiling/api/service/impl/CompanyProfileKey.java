@@ -0,0 +1,18 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+
+/**
+ * Identifies a company profile on the upstream company profile API, as retrieved with one
+ * caller's authorisation.
+ *
+ * @param companyNumber         the company number
+ * @param ericPassThroughHeader the passthrough header the profile is retrieved with
+ */
+record CompanyProfileKey(String companyNumber, String ericPassThroughHeader) {
+
+    static CompanyProfileKey of(final Transaction transaction,
+            final String ericPassThroughHeader) {
+        return new CompanyProfileKey(transaction.getCompanyNumber(), ericPassThroughHeader);
+    }
+}
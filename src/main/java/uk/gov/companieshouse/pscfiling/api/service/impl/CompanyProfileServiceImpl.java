@@ -10,12 +10,15 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.exception.CompanyProfileServiceException;
 import uk.gov.companieshouse.pscfiling.api.service.CompanyProfileService;
 import uk.gov.companieshouse.pscfiling.api.utils.LogHelper;
+import uk.gov.companieshouse.pscfiling.api.utils.SingleFlight;
 
 @Service
 public class CompanyProfileServiceImpl implements CompanyProfileService {
 
     private final ApiClientService apiClientService;
     private final Logger logger;
+    private final SingleFlight<CompanyProfileKey, CompanyProfileApi> companyProfileCalls =
+            new SingleFlight<>();
 
     public CompanyProfileServiceImpl(ApiClientService apiClientService, Logger logger) {
         this.apiClientService = apiClientService;
@@ -25,6 +28,14 @@ public class CompanyProfileServiceImpl implements CompanyProfileService {
     @Override
     public CompanyProfileApi getCompanyProfile(final Transaction transaction, final String ericPassThroughHeader)
             throws CompanyProfileServiceException {
+        // the passthrough header is part of the key so that callers only share an authorised call
+        return companyProfileCalls.execute(
+                CompanyProfileKey.of(transaction, ericPassThroughHeader),
+                () -> retrieveCompanyProfile(transaction, ericPassThroughHeader));
+    }
+
+    private CompanyProfileApi retrieveCompanyProfile(final Transaction transaction,
+            final String ericPassThroughHeader) {
         final var logMap = LogHelper.createLogMap(transaction.getId());
 
         try {
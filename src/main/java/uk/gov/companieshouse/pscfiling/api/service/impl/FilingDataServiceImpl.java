@@ -1,10 +1,17 @@
 package uk.gov.companieshouse.pscfiling.api.service.impl;
 
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import java.text.MessageFormat;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.psc.PscApi;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -14,101 +21,186 @@ import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundExcep
 import uk.gov.companieshouse.pscfiling.api.mapper.FilingDataMapper;
 import uk.gov.companieshouse.pscfiling.api.model.FilingKind;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.dto.FilingDtoCommunal;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
 import uk.gov.companieshouse.pscfiling.api.service.FilingDataService;
+import uk.gov.companieshouse.pscfiling.api.service.FilingDescriptionRenderer;
 import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 import uk.gov.companieshouse.pscfiling.api.utils.LogHelper;
 import uk.gov.companieshouse.pscfiling.api.utils.MapHelper;
 
-import static uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants.*;
-
 /**
  * Produces Filing Data format for consumption as JSON by filing-resource-handler external service.
  */
 @Service
 public class FilingDataServiceImpl implements FilingDataService {
+    private static final Pattern FILING_RESOURCE_PATTERN = Pattern.compile(
+            "/persons-with-significant-control/(?<pscType>individual|corporate-entity|legal-person)"
+                    + "/(?<filingId>[^/]+)$");
 
     private final PscFilingService pscFilingService;
     private final FilingDataMapper dataMapper;
     private final PscDetailsService pscDetailsService;
-    private final FilingDataConfig filingDataConfig;
+    private final FilingDescriptionRenderer descriptionRenderer;
+    private final int maxConcurrentGenerations;
     private final Logger logger;
 
     public FilingDataServiceImpl(final PscFilingService pscFilingService,
             final FilingDataMapper filingMapper, final PscDetailsService pscDetailsService,
+            final FilingDescriptionRenderer descriptionRenderer,
             final FilingDataConfig filingDataConfig, final Logger logger) {
         this.pscFilingService = pscFilingService;
         this.dataMapper = filingMapper;
         this.pscDetailsService = pscDetailsService;
-        this.filingDataConfig = filingDataConfig;
+        this.descriptionRenderer = descriptionRenderer;
+        this.maxConcurrentGenerations = Math.max(1, filingDataConfig.getMaxConcurrentGenerations());
         this.logger = logger;
     }
 
     @Override
     public FilingApi generatePscFiling(final String filingId, final PscTypeConstants pscType,
             final Transaction transaction, final String passthroughHeader) {
-        final var filing = new FilingApi();
+        final var transactionId = transaction.getId();
+        final var logMap = LogHelper.createLogMap(transactionId, filingId);
 
-        filing.setKind(MessageFormat.format("{0}#{1}", FilingKind.PSC_CESSATION.getValue(), pscType.getValue())); // TODO: handling other kinds to come later
+        logger.debugContext(transactionId, "Fetching PSC filing", logMap);
 
-        final var populatedFiling = populateFilingData(filing, filingId, pscType, transaction, passthroughHeader);
+        final var pscFilingOpt = pscFilingService.get(filingId);
+        final var pscFiling = pscFilingOpt.orElseThrow(() -> filingNotFound(filingId));
 
-        setFilingDescription(populatedFiling, pscType);
+        return generatePscFiling(pscFiling, filingId, pscType, transaction, passthroughHeader);
+    }
 
-        return filing;
+    /**
+     * Loads the PSC filings stored for the transaction in one query on its indexed ID, matching
+     * them to the transaction resources by self link, then generates their filing data
+     * concurrently, each waiting only on its own PSC details lookup. At most
+     * {@link FilingDataConfig#getMaxConcurrentGenerations()} filings are generated at a time, so
+     * a large transaction does not make a PSC API call per filing all at once.
+     */
+    @Override
+    public List<FilingApi> generatePscFilings(final Transaction transaction,
+            final String passthroughHeader) {
+        final var resources = filingResources(transaction);
+
+        if (resources.isEmpty()) {
+            return List.of();
+        }
+        logger.debugContext(transaction.getId(), "Fetching PSC filings",
+                LogHelper.createLogMap(transaction.getId()));
+
+        final var filingsBySelf = pscFilingService.getAllInTransaction(transaction.getId())
+                .stream()
+                .collect(Collectors.toMap(f -> f.getLinks().self().toString(),
+                        Function.identity()));
+        final var pscFilings = resources.stream()
+                .map(r -> Optional.ofNullable(filingsBySelf.get(r.self()))
+                        .orElseThrow(() -> filingNotFound(r.filingId())))
+                .toList();
+        // the PSC details are kept with the request, so share it with the generating threads
+        final var requestAttributes = RequestContextHolder.getRequestAttributes();
+        final var generated = new ArrayList<Future<FilingApi>>(resources.size());
+
+        try (final var executor = Executors.newFixedThreadPool(
+                Math.min(resources.size(), maxConcurrentGenerations),
+                Thread.ofVirtual().factory())) {
+            for (var i = 0; i < resources.size(); i++) {
+                final var resource = resources.get(i);
+                final var pscFiling = pscFilings.get(i);
+
+                generated.add(executor.submit(() -> {
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    try {
+                        return generatePscFiling(pscFiling, resource.filingId(),
+                                resource.pscType(), transaction, passthroughHeader);
+                    }
+                    finally {
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                }));
+            }
+        }
+        return generated.stream().map(FilingDataServiceImpl::join).toList();
     }
 
-    private FilingApi populateFilingData(final FilingApi filing, final String filingId,
+    private FilingApi generatePscFiling(final PscCommunal pscFiling, final String filingId,
             final PscTypeConstants pscType, final Transaction transaction,
             final String passthroughHeader) {
+        final var filing = new FilingApi();
+        final var kind = FilingKind.PSC_CESSATION; // TODO: handling other kinds to come later
 
-        final var transactionId = transaction.getId();
-        final var logMap = LogHelper.createLogMap(transactionId, filingId);
+        filing.setKind(MessageFormat.format("{0}#{1}", kind.getValue(), pscType.getValue()));
 
-        logger.debugContext(transactionId, "Fetching PSC filing", logMap);
+        final var filingData = populateFilingData(filing, pscFiling, filingId, pscType,
+                transaction, passthroughHeader);
 
-        final var pscFilingOpt = pscFilingService.get(filingId);
-        final var pscFiling = pscFilingOpt.orElseThrow(() -> new FilingResourceNotFoundException(
-                String.format("PSC filing not found when generating filing for %s", filingId)));
+        filing.setDescription(descriptionRenderer.render(kind, pscType, filingData));
+
+        return filing;
+    }
+
+    private FilingDtoCommunal populateFilingData(final FilingApi filing,
+            final PscCommunal pscFiling, final String filingId, final PscTypeConstants pscType,
+            final Transaction transaction, final String passthroughHeader) {
+
+        final var transactionId = transaction.getId();
+        final var logMap = LogHelper.createLogMap(transactionId, filingId);
         final PscApi pscDetails =
                 pscDetailsService.getPscDetails(transaction, pscFiling.getReferencePscId(), pscType,
                         passthroughHeader);
         final PscCommunal enhancedPscFiling = dataMapper.enhance(pscFiling, pscType, pscDetails);
         final var filingData = dataMapper.map(enhancedPscFiling, pscType);
-        final var dataMap =
-                MapHelper.convertObject(filingData, PropertyNamingStrategies.SNAKE_CASE);
+        final var dataMap = MapHelper.convertFilingData(filingData);
 
         logMap.put("Data to submit", dataMap);
         logger.debugContext(transactionId, filingId, logMap);
 
         filing.setData(dataMap);
 
-        return filing;
+        return filingData;
+    }
+
+    /**
+     * @return the PSC filing resources in the transaction, in resource order
+     */
+    private static List<FilingResource> filingResources(final Transaction transaction) {
+        final var resources = new ArrayList<FilingResource>();
+
+        Optional.ofNullable(transaction.getResources()).ifPresent(r -> r.keySet().forEach(self -> {
+            final var matcher = FILING_RESOURCE_PATTERN.matcher(self);
+
+            if (matcher.find()) {
+                // cannot be empty
+                final var pscType = PscTypeConstants.nameOf(matcher.group("pscType")).orElseThrow();
+
+                resources.add(new FilingResource(self, matcher.group("filingId"), pscType));
+            }
+        }));
+        return resources;
     }
 
-    private void setFilingDescription(final FilingApi filing, final PscTypeConstants pscType) {
-        var name = "";
-
-        if (INDIVIDUAL.equals(pscType)) {
-            final var names = new String[]{(String) filing.getData().get("title"),
-                    (String) filing.getData().get("first_name"),
-                    (String) filing.getData().get("other_forenames"),
-                    (String) filing.getData().get("last_name")};
-            final var sb = new StringBuilder();
-            for (final String str : names)
-                if (str != null) {
-                    sb.append(str).append(" ");
-                }
-            final var result = sb.toString();
-            name = result.trim();
-        } else if (CORPORATE_ENTITY.equals(pscType) || LEGAL_PERSON.equals(pscType)) {
-            name = (String) filing.getData().get("name");
+    private static FilingResourceNotFoundException filingNotFound(final String filingId) {
+        return new FilingResourceNotFoundException(
+                String.format("PSC filing not found when generating filing for %s", filingId));
+    }
+
+    private static FilingApi join(final Future<FilingApi> generated) {
+        try {
+            return generated.get();
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
         }
+        catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 
-        final var date = LocalDate.parse(filing.getData().get("ceased_on").toString());
-        final var fmt = DateTimeFormatter.ofPattern("d MMMM yyyy");
-        final String strDate = date.format(fmt);
-        filing.setDescription(MessageFormat.format(filingDataConfig.getPsc07Description(), name, strDate));
+    private record FilingResource(String self, String filingId, PscTypeConstants pscType) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the outcomes of the writes made by filing PATCH requests.
+ */
+@Component
+public class FilingPatchMetrics {
+    static final String CONFLICTS = "psc.filing.patch.conflicts";
+    static final String RETRIES = "psc.filing.patch.retries";
+    static final String LOST_UPDATES = "psc.filing.patch.lost.updates";
+    static final String UNCHANGED = "psc.filing.patch.unchanged";
+
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter lostUpdates;
+    private final Counter unchanged;
+
+    public FilingPatchMetrics(final MeterRegistry meterRegistry) {
+        this.conflicts = Counter.builder(CONFLICTS)
+                .description("PATCH writes rejected because the filing had changed since it was read")
+                .register(meterRegistry);
+        this.retries = Counter.builder(RETRIES)
+                .description("PATCHes reapplied to a freshly read filing after a conflict")
+                .register(meterRegistry);
+        this.lostUpdates = Counter.builder(LOST_UPDATES)
+                .description("PATCHes abandoned after exhausting their retries")
+                .register(meterRegistry);
+        this.unchanged = Counter.builder(UNCHANGED)
+                .description("PATCHes that changed nothing and so were not written")
+                .register(meterRegistry);
+    }
+
+    void conflict() {
+        conflicts.increment();
+    }
+
+    void retry() {
+        retries.increment();
+    }
+
+    void lostUpdate() {
+        lostUpdates.increment();
+    }
+
+    void unchanged() {
+        unchanged.increment();
+    }
+}
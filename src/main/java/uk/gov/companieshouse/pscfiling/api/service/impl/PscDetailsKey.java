@@ -0,0 +1,23 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+
+/**
+ * Identifies a single PSC resource on the upstream PSC API, as retrieved with one caller's
+ * authorisation.
+ *
+ * @param companyNumber         the company number
+ * @param pscType               the PSC type
+ * @param pscId                 the PSC ID
+ * @param ericPassThroughHeader the passthrough header the PSC is retrieved with
+ */
+record PscDetailsKey(String companyNumber, PscTypeConstants pscType, String pscId,
+                     String ericPassThroughHeader) {
+
+    static PscDetailsKey of(final Transaction transaction, final PscTypeConstants pscType,
+            final String pscId, final String ericPassThroughHeader) {
+        return new PscDetailsKey(transaction.getCompanyNumber(), pscType, pscId,
+                ericPassThroughHeader);
+    }
+}
@@ -15,6 +15,7 @@ import uk.gov.companieshouse.pscfiling.api.exception.PscServiceException;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
 import uk.gov.companieshouse.pscfiling.api.utils.LogHelper;
+import uk.gov.companieshouse.pscfiling.api.utils.SingleFlight;
 
 @Service
 public class PscDetailsServiceImpl implements PscDetailsService {
@@ -22,6 +23,7 @@ public class PscDetailsServiceImpl implements PscDetailsService {
 
     private final ApiClientService apiClientService;
     private final Logger logger;
+    private final SingleFlight<PscDetailsKey, PscApi> pscDetailsCalls = new SingleFlight<>();
 
     public PscDetailsServiceImpl(final ApiClientService apiClientService, Logger logger) {
         this.apiClientService = apiClientService;
@@ -29,7 +31,8 @@ public class PscDetailsServiceImpl implements PscDetailsService {
     }
 
     /**
-     * Retrieve a PSC by ID.
+     * Retrieve a PSC by ID. Concurrent retrievals of the same PSC with the same passthrough
+     * header share one call to the PSC API.
      *
      * @param transaction           the Transaction
      * @param pscId                 the PSC Id
@@ -43,6 +46,14 @@ public class PscDetailsServiceImpl implements PscDetailsService {
     public PscApi getPscDetails(final Transaction transaction, String pscId,
             PscTypeConstants pscType, final String ericPassThroughHeader)
             throws PscServiceException {
+        // the passthrough header is part of the key so that callers only share an authorised call
+        return pscDetailsCalls.execute(
+                PscDetailsKey.of(transaction, pscType, pscId, ericPassThroughHeader),
+                () -> retrievePscDetails(transaction, pscId, pscType, ericPassThroughHeader));
+    }
+
+    private PscApi retrievePscDetails(final Transaction transaction, final String pscId,
+            final PscTypeConstants pscType, final String ericPassThroughHeader) {
         final var logMap = LogHelper.createLogMap(transaction.getId());
 
         try {
@@ -2,10 +2,13 @@ package uk.gov.companieshouse.pscfiling.api.service.impl;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 import uk.gov.companieshouse.pscfiling.api.repository.PscFilingRepository;
@@ -40,6 +43,35 @@ public class PscFilingServiceImpl implements PscFilingService {
         return filingRepository.findById(pscFilingId);
     }
 
+    /**
+     * Retrieve the stored PSCFiling entities in a transaction, in one query.
+     *
+     * @param transactionId the Transaction ID
+     * @return the stored entities found, in no particular order
+     */
+    @Override
+    public List<PscCommunal> getAllInTransaction(final String transactionId) {
+        return filingRepository.findByTransactionId(transactionId);
+    }
+
+    /**
+     * Retrieve the summary of a stored PSCFiling entity in a transaction, without its filing data.
+     * The filing is matched to the transaction by its self link in the same query.
+     *
+     * @param pscFilingId   the Filing ID
+     * @param transactionId the Transaction ID
+     * @return the stored entity summary if found in the transaction
+     */
+    @Override
+    public Optional<PscFilingSummary> getSummary(final String pscFilingId,
+            final String transactionId) {
+        final var selfLinkPrefix =
+                "/transactions/" + transactionId + "/persons-with-significant-control/";
+
+        return filingRepository.findSummaryByIdAndSelfLink(pscFilingId,
+                "^" + Pattern.quote(selfLinkPrefix));
+    }
+
     /**
      * Store a PSCIndividualFiling entity in persistence layer.
      *
@@ -64,7 +96,24 @@ public class PscFilingServiceImpl implements PscFilingService {
 
     @Override
     public boolean requestMatchesResourceSelf(final HttpServletRequest request, final PscCommunal pscFiling) {
-        final var selfLinkUri = pscFiling.getLinks().self();
+        return requestMatchesSelf(request, pscFiling.getLinks().self());
+    }
+
+    /**
+     * Check the request URI against the self link of a stored PSCFiling entity summary.
+     *
+     * @param request       the servlet request
+     * @param summary       the stored entity summary
+     * @return true if the request URI is the filing self link
+     */
+    @Override
+    public boolean requestMatchesResourceSelf(final HttpServletRequest request,
+            final PscFilingSummary summary) {
+        return requestMatchesSelf(request, summary.links().self());
+    }
+
+    private static boolean requestMatchesSelf(final HttpServletRequest request,
+            final URI selfLinkUri) {
         final URI requestUri;
         try {
             requestUri = new URI(request.getRequestURI());
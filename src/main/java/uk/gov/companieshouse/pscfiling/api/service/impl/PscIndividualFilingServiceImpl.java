@@ -1,43 +1,56 @@
 package uk.gov.companieshouse.pscfiling.api.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.patch.model.PatchResult;
 import uk.gov.companieshouse.pscfiling.api.config.PatchServiceProperties;
+import uk.gov.companieshouse.pscfiling.api.error.RetrievalFailureReason;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingUpdateConflictException;
 import uk.gov.companieshouse.pscfiling.api.exception.MergePatchException;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
-import uk.gov.companieshouse.pscfiling.api.provider.PscIndividualFilingProvider;
 import uk.gov.companieshouse.pscfiling.api.repository.PscIndividualFilingRepository;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingMergeProcessor;
 import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingPostMergeProcessor;
 import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscIndividualPatchValidator;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 
 @Service
 public class PscIndividualFilingServiceImpl implements PscIndividualFilingService {
     private final PscIndividualFilingRepository filingRepository;
     private final PatchServiceProperties patchServiceProperties;
-    private final PscIndividualFilingProvider pscIndividualFilingProvider;
     private final PscIndividualFilingMergeProcessor mergeProcessor;
     private final PscIndividualFilingPostMergeProcessor postMergeProcessor;
     private final PscIndividualPatchValidator pscIndividualPatchValidator;
+    private final FilingPatchMetrics filingPatchMetrics;
+    private final ValidationResultCache validationResultCache;
+    private final FilingResponseCache filingResponseCache;
 
     @Autowired
     public PscIndividualFilingServiceImpl(final PscIndividualFilingRepository filingRepository,
             final PatchServiceProperties patchServiceProperties,
-            final PscIndividualFilingProvider pscIndividualFilingProvider,
             final PscIndividualFilingMergeProcessor mergeProcessor,
             final PscIndividualFilingPostMergeProcessor postMergeProcessor,
-            final PscIndividualPatchValidator pscIndividualPatchValidator) {
+            final PscIndividualPatchValidator pscIndividualPatchValidator,
+            final FilingPatchMetrics filingPatchMetrics,
+            final ValidationResultCache validationResultCache,
+            final FilingResponseCache filingResponseCache) {
         this.filingRepository = filingRepository;
         this.patchServiceProperties = patchServiceProperties;
-        this.pscIndividualFilingProvider = pscIndividualFilingProvider;
         this.mergeProcessor = mergeProcessor;
         this.postMergeProcessor = postMergeProcessor;
         this.pscIndividualPatchValidator = pscIndividualPatchValidator;
+        this.filingPatchMetrics = filingPatchMetrics;
+        this.validationResultCache = validationResultCache;
+        this.filingResponseCache = filingResponseCache;
     }
 
     @Override
@@ -45,32 +58,113 @@ public class PscIndividualFilingServiceImpl implements PscIndividualFilingServic
         return filingRepository.save(filing);
     }
 
+    @Override
+    public PscIndividualFiling insert(final PscIndividualFiling filing) {
+        return filingRepository.insert(filing);
+    }
+
+    @Override
+    public List<PscIndividualFiling> insertAll(final List<PscIndividualFiling> filings) {
+        return filingRepository.insert(filings);
+    }
+
     @Override
     public Optional<PscIndividualFiling> get(final String filingId) {
         return filingRepository.findById(filingId);
     }
 
+    /**
+     * Apply the patch and write the changed fields only if the filing is unchanged since it was
+     * read.
+     * If another request has changed it in the meantime, the patch is reapplied to a fresh copy
+     * up to {@link #getMaxRetries()} times before giving up. A patch that changes nothing is not
+     * written at all.
+     *
+     * @throws FilingUpdateConflictException if the filing kept changing until retries ran out
+     */
+    @Override
+    public FilingPatchResult<PscIndividualFiling> patch(final PscIndividualFiling filing,
+            final JsonNode mergePatch) {
+        var current = filing;
+
+        for (var attempt = 0; ; attempt++) {
+            final var result = patchOnce(filing.getId(), current, mergePatch);
+
+            if (result.isPresent()) {
+                return result.get();
+            }
+            final var reread = filingRepository.findById(filing.getId());
+
+            if (reread.isEmpty()) {
+                return FilingPatchResult.failed(
+                        new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND));
+            }
+            filingPatchMetrics.conflict();
+
+            if (attempt >= getMaxRetries()) {
+                filingPatchMetrics.lostUpdate();
+                throw new FilingUpdateConflictException(filing.getId());
+            }
+            filingPatchMetrics.retry();
+            current = reread.get();
+        }
+    }
+
+    /**
+     * Apply the patch and write the changed fields only if the filing is unchanged since it was
+     * read, without retrying: the caller decides whether to read the filing again.
+     *
+     * @throws FilingPreconditionFailedException if the filing has changed since it was read
+     */
     @Override
-    public PatchResult patch(final String filingId, final Map<String, Object> patchMap) {
-        final PatchResult patchResult;
+    public FilingPatchResult<PscIndividualFiling> patchIfUnchanged(
+            final PscIndividualFiling filing, final JsonNode mergePatch) {
+        return patchOnce(filing.getId(), filing, mergePatch).orElseThrow(() -> {
+            filingPatchMetrics.conflict();
+            return new FilingPreconditionFailedException(filing.getId());
+        });
+    }
+
+    /**
+     * Apply the patch once, writing the changed fields only if the filing etag is unchanged.
+     *
+     * @return the patch result, or empty if the filing has changed since it was read
+     */
+    private Optional<FilingPatchResult<PscIndividualFiling>> patchOnce(final String filingId,
+            final PscIndividualFiling current, final JsonNode mergePatch) {
+        final var expectedEtag = current.getEtag();
+        // snapshot before merging: the merge updates the filing in place
+        final var original = filingRepository.toDocument(current);
+        final PscIndividualFiling patched;
 
         try {
-            patchResult =
-                    patchEntity(filingId, pscIndividualFilingProvider, patchMap, mergeProcessor,
-                            postMergeProcessor, pscIndividualPatchValidator);
+            patched = mergeProcessor.mergeEntity(current, mergePatch);
         } catch (final IOException e) {
             throw new MergePatchException(e);
         }
 
-        return patchResult;
-    }
+        final var validationResult = pscIndividualPatchValidator.validate(patched);
 
-    @Override
-    public int save(final PscIndividualFiling filing, final String version) {
-        filingRepository.save(PscIndividualFiling.builder(filing).etag(version)
-                .build());
+        if (validationResult.hasErrors()) {
+            return Optional.of(
+                    FilingPatchResult.failed(new PatchResult(validationResult.getErrors())));
+        }
+        if (original.equals(filingRepository.toDocument(patched))) {
+            // nothing changed: keep the stored filing, its updated_at and its etag
+            filingPatchMetrics.unchanged();
+            return Optional.of(FilingPatchResult.succeeded(patched));
+        }
+        postMergeProcessor.onMerge(patched);
 
-        return 1;
+        final var stored = filingRepository.updateByIdAndEtag(filingId, expectedEtag,
+                original, PscIndividualFiling.builder(patched).etag(UUID.randomUUID().toString()).build());
+
+        if (stored.isPresent()) {
+            validationResultCache.invalidate(filingId);
+            filingResponseCache.invalidate(filingId);
+            return Optional.of(FilingPatchResult.succeeded(stored.get()));
+        }
+        return Optional.empty();
     }
 
     @Override
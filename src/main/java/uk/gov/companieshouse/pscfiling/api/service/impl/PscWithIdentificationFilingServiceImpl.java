@@ -1,43 +1,55 @@
 package uk.gov.companieshouse.pscfiling.api.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
-import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.patch.model.PatchResult;
 import uk.gov.companieshouse.pscfiling.api.config.PatchServiceProperties;
+import uk.gov.companieshouse.pscfiling.api.error.RetrievalFailureReason;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingUpdateConflictException;
 import uk.gov.companieshouse.pscfiling.api.exception.MergePatchException;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
-import uk.gov.companieshouse.pscfiling.api.provider.PscWithIdentificationFilingProvider;
 import uk.gov.companieshouse.pscfiling.api.repository.PscWithIdentificationFilingRepository;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingMergeProcessor;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingPostMergeProcessor;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationPatchValidator;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 
 @Service
 public class PscWithIdentificationFilingServiceImpl implements PscWithIdentificationFilingService {
     private final PscWithIdentificationFilingRepository filingRepository;
     private final PatchServiceProperties patchServiceProperties;
-    private final PscWithIdentificationFilingProvider pscWithIdentificationFilingProvider;
     private final PscWithIdentificationFilingMergeProcessor mergeProcessor;
     private final PscWithIdentificationFilingPostMergeProcessor postMergeProcessor;
     private final PscWithIdentificationPatchValidator pscWithIdentificationPatchValidator;
+    private final FilingPatchMetrics filingPatchMetrics;
+    private final ValidationResultCache validationResultCache;
+    private final FilingResponseCache filingResponseCache;
 
     @Autowired
     public PscWithIdentificationFilingServiceImpl(final PscWithIdentificationFilingRepository filingRepository,
             final PatchServiceProperties patchServiceProperties,
-            final PscWithIdentificationFilingProvider pscWithIdentificationFilingProvider,
             final PscWithIdentificationFilingMergeProcessor mergeProcessor,
             final PscWithIdentificationFilingPostMergeProcessor postMergeProcessor,
-            final PscWithIdentificationPatchValidator pscWithIdentificationPatchValidator) {
+            final PscWithIdentificationPatchValidator pscWithIdentificationPatchValidator,
+            final FilingPatchMetrics filingPatchMetrics,
+            final ValidationResultCache validationResultCache,
+            final FilingResponseCache filingResponseCache) {
         this.filingRepository = filingRepository;
         this.patchServiceProperties = patchServiceProperties;
-        this.pscWithIdentificationFilingProvider = pscWithIdentificationFilingProvider;
         this.mergeProcessor = mergeProcessor;
         this.postMergeProcessor = postMergeProcessor;
         this.pscWithIdentificationPatchValidator = pscWithIdentificationPatchValidator;
+        this.filingPatchMetrics = filingPatchMetrics;
+        this.validationResultCache = validationResultCache;
+        this.filingResponseCache = filingResponseCache;
     }
 
     @Override
@@ -45,33 +57,109 @@ public class PscWithIdentificationFilingServiceImpl implements PscWithIdentifica
         return filingRepository.save(filing);
     }
 
+    @Override
+    public PscWithIdentificationFiling insert(final PscWithIdentificationFiling filing) {
+        return filingRepository.insert(filing);
+    }
+
     @Override
     public Optional<PscWithIdentificationFiling> get(final String filingId) {
         return filingRepository.findById(filingId);
     }
 
+    /**
+     * Apply the patch and write the changed fields only if the filing is unchanged since it was
+     * read.
+     * If another request has changed it in the meantime, the patch is reapplied to a fresh copy
+     * up to {@link #getMaxRetries()} times before giving up. A patch that changes nothing is not
+     * written at all.
+     *
+     * @throws FilingUpdateConflictException if the filing kept changing until retries ran out
+     */
     @Override
-    public PatchResult patch(final String filingId, final Map<String, Object> patchMap) {
-        final PatchResult patchResult;
+    public FilingPatchResult<PscWithIdentificationFiling> patch(final PscWithIdentificationFiling filing,
+            final JsonNode mergePatch) {
+        var current = filing;
 
-        try {
-            patchResult =
-                    patchEntity(filingId, pscWithIdentificationFilingProvider, patchMap, mergeProcessor,
-                            postMergeProcessor, pscWithIdentificationPatchValidator);
+        for (var attempt = 0; ; attempt++) {
+            final var result = patchOnce(filing.getId(), current, mergePatch);
+
+            if (result.isPresent()) {
+                return result.get();
+            }
+            final var reread = filingRepository.findById(filing.getId());
+
+            if (reread.isEmpty()) {
+                return FilingPatchResult.failed(
+                        new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND));
+            }
+            filingPatchMetrics.conflict();
+
+            if (attempt >= getMaxRetries()) {
+                filingPatchMetrics.lostUpdate();
+                throw new FilingUpdateConflictException(filing.getId());
+            }
+            filingPatchMetrics.retry();
+            current = reread.get();
         }
-        catch (final IOException e) {
+    }
+
+    /**
+     * Apply the patch and write the changed fields only if the filing is unchanged since it was
+     * read, without retrying: the caller decides whether to read the filing again.
+     *
+     * @throws FilingPreconditionFailedException if the filing has changed since it was read
+     */
+    @Override
+    public FilingPatchResult<PscWithIdentificationFiling> patchIfUnchanged(
+            final PscWithIdentificationFiling filing, final JsonNode mergePatch) {
+        return patchOnce(filing.getId(), filing, mergePatch).orElseThrow(() -> {
+            filingPatchMetrics.conflict();
+            return new FilingPreconditionFailedException(filing.getId());
+        });
+    }
+
+    /**
+     * Apply the patch once, writing the changed fields only if the filing etag is unchanged.
+     *
+     * @return the patch result, or empty if the filing has changed since it was read
+     */
+    private Optional<FilingPatchResult<PscWithIdentificationFiling>> patchOnce(
+            final String filingId, final PscWithIdentificationFiling current,
+            final JsonNode mergePatch) {
+        final var expectedEtag = current.getEtag();
+        // snapshot before merging: the merge updates the filing in place
+        final var original = filingRepository.toDocument(current);
+        final PscWithIdentificationFiling patched;
+
+        try {
+            patched = mergeProcessor.mergeEntity(current, mergePatch);
+        } catch (final IOException e) {
             throw new MergePatchException(e);
         }
 
-        return patchResult;
-    }
+        final var validationResult = pscWithIdentificationPatchValidator.validate(patched);
 
-    @Override
-    public int save(final PscWithIdentificationFiling filing, final String version) {
-        filingRepository.save(PscWithIdentificationFiling.builder(filing).etag(version)
-                .build());
+        if (validationResult.hasErrors()) {
+            return Optional.of(
+                    FilingPatchResult.failed(new PatchResult(validationResult.getErrors())));
+        }
+        if (original.equals(filingRepository.toDocument(patched))) {
+            // nothing changed: keep the stored filing, its updated_at and its etag
+            filingPatchMetrics.unchanged();
+            return Optional.of(FilingPatchResult.succeeded(patched));
+        }
+        postMergeProcessor.onMerge(patched);
 
-        return 1;
+        final var stored = filingRepository.updateByIdAndEtag(filingId, expectedEtag,
+                original, PscWithIdentificationFiling.builder(patched).etag(UUID.randomUUID().toString()).build());
+
+        if (stored.isPresent()) {
+            validationResultCache.invalidate(filingId);
+            filingResponseCache.invalidate(filingId);
+            return Optional.of(FilingPatchResult.succeeded(stored.get()));
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -0,0 +1,171 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.api.model.psc.PscApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.pscfiling.api.exception.PscServiceException;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
+
+/**
+ * Remembers PSC details for the lifetime of the current HTTP request, so that the validators
+ * and the filing data mapping each see the same PSC without repeating the upstream call.
+ * <p>
+ * A failed retrieval is remembered too, and the same exception is thrown again for later
+ * retrievals in the request, so that a PSC that is not found is only looked up once.
+ * </p>
+ * <p>
+ * Calls made outside a request (or on a thread without request attributes) are passed straight
+ * through to the delegate.
+ * </p>
+ */
+@Service
+@Primary
+public class RequestScopedPscDetailsService implements PscDetailsService {
+    static final String LOOKUPS_ATTRIBUTE =
+            RequestScopedPscDetailsService.class.getName() + ".lookups";
+    static final String METRIC_NAME = "psc.details.request.lookups";
+
+    private final PscDetailsService pscDetailsService;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RequestScopedPscDetailsService(
+            @Qualifier("cachedPscDetailsService") final PscDetailsService pscDetailsService,
+            final MeterRegistry meterRegistry) {
+        this.pscDetailsService = pscDetailsService;
+        this.hits = Counter.builder(METRIC_NAME)
+                .description("PSC details lookups answered from the current request")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME)
+                .description("PSC details lookups not already made during the current request")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieve a PSC by ID, reusing any result (or failure) already retrieved during the
+     * current request.
+     *
+     * @param transaction           the Transaction
+     * @param pscId                 the PSC Id
+     * @param pscType               the PSC Type
+     * @param ericPassThroughHeader includes authorisation for transaction fetch
+     * @return the PSC details if found
+     *
+     * @throws PscServiceException if PSC details not found or an error occurred
+     */
+    @Override
+    public PscApi getPscDetails(final Transaction transaction, final String pscId,
+            final PscTypeConstants pscType, final String ericPassThroughHeader)
+            throws PscServiceException {
+        final var lookups = currentLookups();
+
+        if (lookups == null) {
+            return pscDetailsService.getPscDetails(transaction, pscId, pscType,
+                    ericPassThroughHeader);
+        }
+        final var key = PscDetailsKey.of(transaction, pscType, pscId, ericPassThroughHeader);
+        final var lookup = lookups.get(key);
+
+        if (lookup != null) {
+            hits.increment();
+            return lookup.get();
+        }
+        misses.increment();
+
+        return remember(lookups, key, () -> pscDetailsService.getPscDetails(transaction, pscId,
+                pscType, ericPassThroughHeader));
+    }
+
+    /**
+     * Retrieve a PSC by ID from the PSC API, replacing any result already retrieved during the
+     * current request.
+     *
+     * @param transaction           the Transaction
+     * @param pscId                 the PSC Id
+     * @param pscType               the PSC Type
+     * @param ericPassThroughHeader includes authorisation for transaction fetch
+     * @return the PSC details if found
+     *
+     * @throws PscServiceException if PSC details not found or an error occurred
+     */
+    @Override
+    public PscApi refreshPscDetails(final Transaction transaction, final String pscId,
+            final PscTypeConstants pscType, final String ericPassThroughHeader)
+            throws PscServiceException {
+        final var lookups = currentLookups();
+        final var key = PscDetailsKey.of(transaction, pscType, pscId, ericPassThroughHeader);
+        final Supplier<PscApi> refresh = () -> pscDetailsService.refreshPscDetails(transaction,
+                pscId, pscType, ericPassThroughHeader);
+
+        if (lookups == null) {
+            return refresh.get();
+        }
+        lookups.remove(key);
+
+        return remember(lookups, key, refresh);
+    }
+
+    private static PscApi remember(final Map<PscDetailsKey, Lookup> lookups,
+            final PscDetailsKey key, final Supplier<PscApi> retrieval) {
+        final PscApi retrieved;
+
+        try {
+            retrieved = retrieval.get();
+        }
+        catch (final RuntimeException e) {
+            lookups.put(key, new Lookup(null, e));
+            throw e;
+        }
+        if (retrieved != null) {
+            lookups.put(key, new Lookup(retrieved, null));
+        }
+        return retrieved;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<PscDetailsKey, Lookup> currentLookups() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return null;
+        }
+        // threads working for the same request share its attributes instance, so locking on it
+        // creates one map per request (the session mutex would create an HTTP session)
+        synchronized (attributes) {
+            var lookups = (Map<PscDetailsKey, Lookup>) attributes.getAttribute(LOOKUPS_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST);
+
+            if (lookups == null) {
+                lookups = new ConcurrentHashMap<>();
+                attributes.setAttribute(LOOKUPS_ATTRIBUTE, lookups,
+                        RequestAttributes.SCOPE_REQUEST);
+            }
+            return lookups;
+        }
+    }
+
+    /**
+     * The outcome of one PSC retrieval: either the PSC details or the failure.
+     */
+    private record Lookup(PscApi pscDetails, RuntimeException failure) {
+
+        PscApi get() {
+            if (failure != null) {
+                throw failure;
+            }
+            return pscDetails;
+        }
+    }
+}
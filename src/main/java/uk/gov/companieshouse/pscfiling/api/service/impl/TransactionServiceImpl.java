@@ -16,6 +16,7 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.exception.TransactionServiceException;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
 import uk.gov.companieshouse.pscfiling.api.utils.LogHelper;
+import uk.gov.companieshouse.pscfiling.api.utils.SingleFlight;
 
 @Service
 public class TransactionServiceImpl implements TransactionService {
@@ -23,6 +24,8 @@ public class TransactionServiceImpl implements TransactionService {
     private static final String UNEXPECTED_STATUS_CODE = "Unexpected Status Code received";
     private final ApiClientService apiClientService;
     private final Logger logger;
+    private final SingleFlight<TransactionKey, Transaction> transactionCalls =
+            new SingleFlight<>();
 
     public TransactionServiceImpl(final ApiClientService apiClientService, Logger logger) {
         this.apiClientService = apiClientService;
@@ -30,7 +33,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     /**
-     * Query the transaction service for a given transaction.
+     * Query the transaction service for a given transaction. Concurrent identical queries share
+     * one call to the transaction service.
      *
      * @param transactionId         the Transaction ID
      * @param ericPassThroughHeader includes authorisation for the transaction query
@@ -41,6 +45,13 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     public Transaction getTransaction(final String transactionId,
             final String ericPassThroughHeader) throws TransactionServiceException {
+        // the passthrough header is part of the key so that callers only share an authorised call
+        return transactionCalls.execute(new TransactionKey(transactionId, ericPassThroughHeader),
+                () -> retrieveTransaction(transactionId, ericPassThroughHeader));
+    }
+
+    private Transaction retrieveTransaction(final String transactionId,
+            final String ericPassThroughHeader) {
         final var logMap = LogHelper.createLogMap(transactionId);
 
         try {
@@ -108,4 +119,6 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
+    private record TransactionKey(String transactionId, String ericPassThroughHeader) {
+    }
 }
@@ -0,0 +1,29 @@
+package uk.gov.companieshouse.pscfiling.api.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public final class CopyHelper {
+
+    private CopyHelper() {
+        // intentionally blank
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(
+                    new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    /**
+     * Make a deep copy of an upstream API model, so that a cached instance is never handed out
+     * to callers that may change it.
+     *
+     * @param value the model to copy, may be null
+     * @param type  the model type
+     * @return an independent copy of the model, or null
+     */
+    public static <T> T deepCopy(final T value, final Class<T> type) {
+        return value == null ? null : MAPPER.convertValue(value, type);
+    }
+
+}
@@ -2,10 +2,17 @@ package uk.gov.companieshouse.pscfiling.api.utils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.text.SimpleDateFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import uk.gov.companieshouse.pscfiling.api.model.dto.FilingDtoCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.dto.IndividualFilingDataDto;
+import uk.gov.companieshouse.pscfiling.api.model.dto.WithIdentificationFilingDataDto;
 
 public final class MapHelper {
 
@@ -13,7 +20,12 @@ public final class MapHelper {
         // intentionally blank
     }
 
-    private static ObjectMapper mapper = null;
+    private static final TypeReference<Map<String, Object>> PROPERTY_MAP = new TypeReference<>() {
+    };
+
+    // one mapper per naming strategy, built once; each caches its own bean serializers
+    private static final ConcurrentMap<PropertyNamingStrategy, ObjectMapper> MAPPERS =
+            new ConcurrentHashMap<>();
 
     /**
      * Convert an Object into a Key/Value property map.
@@ -24,14 +36,69 @@ public final class MapHelper {
      */
     public static Map<String, Object> convertObject(final Object obj,
             final PropertyNamingStrategy namingStrategy) {
-        if (mapper == null) {
-            mapper = new ObjectMapper().registerModule(new JavaTimeModule())
-                    .setPropertyNamingStrategy(namingStrategy)
-                    .setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
+        return MAPPERS.computeIfAbsent(namingStrategy, MapHelper::createMapper)
+                .convertValue(obj, PROPERTY_MAP);
+    }
+
+    /**
+     * Convert filing data into the snake_case property map sent to the filing resource handler.
+     * The result is the same as {@link #convertObject} with {@code SNAKE_CASE}, but the known
+     * filing data types are copied property by property into a map sized for them, without
+     * reflection. Null properties are left out, as the DTOs' {@code NON_NULL} inclusion does.
+     *
+     * @param filingData the filing data
+     * @return a Map of property values
+     */
+    public static Map<String, Object> convertFilingData(final FilingDtoCommunal filingData) {
+        return switch (filingData) {
+            case IndividualFilingDataDto individual -> convertIndividual(individual);
+            case WithIdentificationFilingDataDto withIdentification ->
+                    convertWithIdentification(withIdentification);
+            default -> convertObject(filingData, PropertyNamingStrategies.SNAKE_CASE);
+        };
+    }
+
+    private static Map<String, Object> convertIndividual(final IndividualFilingDataDto data) {
+        final Map<String, Object> map = LinkedHashMap.newLinkedHashMap(7);
+
+        putIfPresent(map, "title", data.getTitle());
+        putIfPresent(map, "first_name", data.getFirstName());
+        putIfPresent(map, "other_forenames", data.getOtherForenames());
+        putIfPresent(map, "last_name", data.getLastName());
+        putIfPresent(map, "date_of_birth", data.getDateOfBirth());
+        putIfPresent(map, "ceased_on", data.getCeasedOn());
+        putIfPresent(map, "register_entry_date", data.getRegisterEntryDate());
+
+        return map;
+    }
+
+    private static Map<String, Object> convertWithIdentification(
+            final WithIdentificationFilingDataDto data) {
+        final Map<String, Object> map = LinkedHashMap.newLinkedHashMap(8);
+
+        putIfPresent(map, "country_registered", data.getCountryRegistered());
+        putIfPresent(map, "place_registered", data.getPlaceRegistered());
+        putIfPresent(map, "registration_number", data.getRegistrationNumber());
+        putIfPresent(map, "legal_authority", data.getLegalAuthority());
+        putIfPresent(map, "legal_form", data.getLegalForm());
+        putIfPresent(map, "ceased_on", data.getCeasedOn());
+        putIfPresent(map, "name", data.getName());
+        putIfPresent(map, "register_entry_date", data.getRegisterEntryDate());
+
+        return map;
+    }
+
+    private static void putIfPresent(final Map<String, Object> map, final String name,
+            final Object value) {
+        if (value != null) {
+            map.put(name, value);
         }
+    }
 
-        return mapper.convertValue(obj, new TypeReference<>() {
-        });
+    private static ObjectMapper createMapper(final PropertyNamingStrategy namingStrategy) {
+        return new ObjectMapper().registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(namingStrategy)
+                .setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
     }
 
-}
\ No newline at end of file
+}
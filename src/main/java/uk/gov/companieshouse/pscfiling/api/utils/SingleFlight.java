@@ -0,0 +1,69 @@
+package uk.gov.companieshouse.pscfiling.api.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller makes the call, and any caller
+ * arriving while it is outstanding waits for and shares its result or failure.
+ * <p>
+ * Nothing is retained once the call completes; this is not a cache.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Make the call, or join an identical call already in flight.
+     *
+     * @param key  identifies the call; a null key is never coalesced
+     * @param call the call to make if none is in flight for the key
+     * @return the result of the call
+     */
+    public V execute(final K key, final Supplier<V> call) {
+        if (key == null) {
+            return call.get();
+        }
+        final var pending = new CompletableFuture<V>();
+        final var inFlight = calls.putIfAbsent(key, pending);
+
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            final var result = call.get();
+
+            pending.complete(result);
+            return result;
+        }
+        catch (final RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            calls.remove(key, pending);
+        }
+    }
+
+    private static <V> V await(final CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        }
+        catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -22,16 +22,24 @@ public class PscEtagValidator extends BaseFilingValidator implements FilingValid
     }
 
     /**
-     * Validates that psc details eTag matches the dto eTag
+     * Validates that psc details eTag matches the dto eTag, revalidating against the PSC API
+     * before reporting a mismatch.
      * @param validationContext the validation context
      */
     @Override
     public <T extends PscDtoCommunal> void validate(final FilingValidationContext<T> validationContext) {
 
-        final PscApi pscDetails = pscDetailsService.getPscDetails(validationContext.transaction(),
+        PscApi pscDetails = pscDetailsService.getPscDetails(validationContext.transaction(),
                 validationContext.dto().getReferencePscId(), validationContext.pscType(),
                 validationContext.passthroughHeader());
 
+        if (!StringUtils.equals(pscDetails.getEtag(), validationContext.dto().getReferenceEtag())) {
+            // the details may be a cached copy: confirm the mismatch with the PSC API
+            pscDetails = pscDetailsService.refreshPscDetails(validationContext.transaction(),
+                    validationContext.dto().getReferencePscId(), validationContext.pscType(),
+                    validationContext.passthroughHeader());
+        }
+
         if (!StringUtils.equals(pscDetails.getEtag(), validationContext.dto().getReferenceEtag())) {
             validationContext.errors()
                     .add(new FieldError("object", "reference_etag", validationContext.dto().getReferenceEtag(),
@@ -2,15 +2,18 @@ package uk.gov.companieshouse.pscfiling.api.config;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import java.time.ZoneOffset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class AppConfigTest {
@@ -36,6 +39,14 @@ class AppConfigTest {
         assertThat(testConfig.objectMapper(), isA(ObjectMapper.class));
     }
 
+    @Test
+    void objectMapperWhenBlackbirdEnabled() {
+        ReflectionTestUtils.setField(testConfig, "blackbirdEnabled", true);
+
+        assertThat(testConfig.objectMapper().getRegisteredModuleIds(),
+                hasItem(new BlackbirdModule().getTypeId()));
+    }
+
     @Test
     void patchObjectMapper() {
         assertThat(testConfig.patchObjectMapper(), isA(ObjectMapper.class));
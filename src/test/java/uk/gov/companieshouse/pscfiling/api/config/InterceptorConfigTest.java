@@ -73,13 +73,19 @@ class InterceptorConfigTest {
                         + "/transactions/{transaction_id}/persons-with-significant-control"
                         + "/{pscType:"
                         + "(?:individual|corporate-entity|legal-person)}"
-                        + "/{filing_resource_id}/filings")).order(6);
+                        + "/{filing_resource_id}/filings",
+                        "/private/transactions/{transaction_id}/persons-with-significant-control"
+                                + "/filings")).order(6);
         verify(interceptorRegistry.addInterceptor(any(ClosedTransactionInterceptor.class))
                 .addPathPatterns("/private"
                         + "/transactions/{transaction_id}/persons-with-significant-control"
                         + "/{pscType:"
                         + "(?:individual|corporate-entity|legal-person)}"
                         + "/{filing_resource_id}/filings")).order(7);
+        verify(interceptorRegistry.addInterceptor(any(ClosedTransactionInterceptor.class))
+                .addPathPatterns("/private"
+                        + "/transactions/{transaction_id}/persons-with-significant-control"
+                        + "/filings")).order(7);
         verify(interceptorRegistry.addInterceptor(requestLoggingInterceptor)).order(8);
     }
 
@@ -93,6 +99,12 @@ class InterceptorConfigTest {
         assertThat(testConfig.transactionClosedInterceptor(), isA(ClosedTransactionInterceptor.class));
     }
 
+    @Test
+    void transactionFilingsClosedInterceptor() {
+        assertThat(testConfig.transactionFilingsClosedInterceptor(),
+                isA(ClosedTransactionInterceptor.class));
+    }
+
     @Test
     void testTransactionInterceptor() {
         assertThat(testConfig.transactionInterceptor(), isA(TransactionInterceptor.class));
@@ -0,0 +1,90 @@
+package uk.gov.companieshouse.pscfiling.api.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+/**
+ * JMH benchmark of response serialization throughput with the Blackbird feature flag off and on,
+ * for single filings and a bulk response.
+ * <p>
+ * Run with {@code -Dbenchmark=true}; the JMH results are printed with the test output.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+    private static final int BULK_SIZE = 20;
+
+    @Param({"false", "true"})
+    public boolean blackbirdEnabled;
+
+    private ObjectWriter writer;
+    private PscIndividualFiling individualFiling;
+    private PscWithIdentificationFiling withIdentificationFiling;
+    private List<PscIndividualFiling> individualFilings;
+
+    @Setup
+    public void setUp() {
+        writer = ResponseJsonGoldenFileTest.objectMapper(blackbirdEnabled).writer();
+        individualFiling = ResponseJsonGoldenFileTest.individualFiling();
+        withIdentificationFiling = ResponseJsonGoldenFileTest.withIdentificationFiling();
+        individualFilings = Collections.nCopies(BULK_SIZE, individualFiling);
+    }
+
+    @Benchmark
+    public byte[] individualFiling() throws JsonProcessingException {
+        return writer.writeValueAsBytes(individualFiling);
+    }
+
+    @Benchmark
+    public byte[] withIdentificationFiling() throws JsonProcessingException {
+        return writer.writeValueAsBytes(withIdentificationFiling);
+    }
+
+    @Benchmark
+    public byte[] individualFilings() throws JsonProcessingException {
+        return writer.writeValueAsBytes(individualFilings);
+    }
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        final var results = new Runner(new OptionsBuilder()
+                .include(ResponseSerializationBenchmark.class.getName())
+                .build()).run();
+
+        assertThat(results, is(not(empty())));
+    }
+}
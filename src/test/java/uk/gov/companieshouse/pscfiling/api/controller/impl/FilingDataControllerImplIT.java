@@ -2,12 +2,14 @@ package uk.gov.companieshouse.pscfiling.api.controller.impl;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -151,4 +153,59 @@ class FilingDataControllerImplIT extends BaseControllerIT {
                 .andExpect(status().isInternalServerError());
     }
 
-}
\ No newline at end of file
+    @Test
+    void getTransactionFilingsWhenFound() throws Exception {
+        final var individualFiling = new FilingApi();
+        individualFiling.setKind(
+                FilingKind.PSC_CESSATION.getValue() + "#" + PscTypeConstants.INDIVIDUAL.getValue());
+        final var corporateFiling = new FilingApi();
+        corporateFiling.setKind(FilingKind.PSC_CESSATION.getValue() + "#"
+                + PscTypeConstants.CORPORATE_ENTITY.getValue());
+
+        transaction.setStatus(TransactionStatus.CLOSED);
+        when(filingDataService.generatePscFilings(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                List.of(individualFiling, corporateFiling));
+
+        mockMvc.perform(get(URL_PSC + "/filings", TRANS_ID).headers(httpHeaders)
+                        .requestAttr(AttributeName.TRANSACTION.getValue(), transaction))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].kind", is(individualFiling.getKind())))
+                .andExpect(jsonPath("$[1].kind", is(corporateFiling.getKind())));
+    }
+
+    @Test
+    void getTransactionFilingsWhenOneNotFound() throws Exception {
+        transaction.setStatus(TransactionStatus.CLOSED);
+        when(filingDataService.generatePscFilings(transaction, PASSTHROUGH_HEADER)).thenThrow(
+                new FilingResourceNotFoundException("for Not Found scenario", null));
+
+        mockMvc.perform(get(URL_PSC + "/filings", TRANS_ID).headers(httpHeaders)
+                        .requestAttr(AttributeName.TRANSACTION.getValue(), transaction))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errors", hasSize(1)));
+    }
+
+    @Test
+    void getTransactionFilingsWhenTransactionNull() throws Exception {
+        mockMvc.perform(get(URL_PSC + "/filings", TRANS_ID).headers(httpHeaders))
+                .andDo(print())
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$").doesNotExist());
+        verifyNoInteractions(filingDataService);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TransactionStatus.class, names = {"CLOSED"}, mode = EnumSource.Mode.EXCLUDE)
+    void getTransactionFilingsWhenTransactionNotClosed(final TransactionStatus transactionStatus)
+            throws Exception {
+        transaction.setStatus(transactionStatus);
+
+        mockMvc.perform(get(URL_PSC + "/filings", TRANS_ID).headers(httpHeaders)
+                        .requestAttr(AttributeName.TRANSACTION.getValue(), transaction))
+                .andExpect(status().isInternalServerError());
+        verifyNoInteractions(filingDataService);
+    }
+}
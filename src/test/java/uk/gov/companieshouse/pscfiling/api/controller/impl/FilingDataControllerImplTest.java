@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -69,4 +70,19 @@ class FilingDataControllerImplTest extends BaseControllerIT {
                         FILING_ID, filingsTransaction, request));
         assertThat(exception.getMessage(), is("Test Resource not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTransactionFilingsData() {
+        final var individualFiling = new FilingApi();
+        final var corporateFiling = new FilingApi();
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(
+                PASSTHROUGH_HEADER);
+        when(filingDataService.generatePscFilings(filingsTransaction,
+                PASSTHROUGH_HEADER)).thenReturn(List.of(individualFiling, corporateFiling));
+
+        final var filingsList =
+                testController.getTransactionFilingsData(TRANS_ID, filingsTransaction, request);
+
+        assertThat(filingsList, Matchers.contains(individualFiling, corporateFiling));
+    }
+}
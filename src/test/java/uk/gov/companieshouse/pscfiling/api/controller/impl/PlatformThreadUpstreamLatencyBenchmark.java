@@ -0,0 +1,10 @@
+package uk.gov.companieshouse.pscfiling.api.controller.impl;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Baseline: requests run on the Tomcat worker pool.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadUpstreamLatencyBenchmark extends UpstreamLatencyBenchmark {
+}
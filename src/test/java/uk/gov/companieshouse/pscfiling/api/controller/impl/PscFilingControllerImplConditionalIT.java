@@ -0,0 +1,118 @@
+package uk.gov.companieshouse.pscfiling.api.controller.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Clock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
+
+/**
+ * Creates, reads and updates a filing against MongoDB, checking that the etag assigned when the
+ * filing is created can be used for a conditional PATCH straight away.
+ */
+@Tag("app")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {"spring.data.mongodb.field-naming-strategy="
+        + "org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy"})
+@AutoConfigureMockMvc
+class PscFilingControllerImplConditionalIT extends BaseControllerIT {
+    private static final String PATCH_CEASED_ON = "{\"ceased_on\": \"2022-09-14\"}";
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @MockBean
+    private TransactionService transactionService;
+    @MockBean
+    private Clock clock;
+    @MockBean
+    private Logger logger;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        baseSetUp();
+        when(clock.instant()).thenReturn(FIRST_INSTANT, SECOND_INSTANT);
+    }
+
+    @Test
+    @DisplayName("Expect the ETag of a new filing to be accepted by If-Match on its first PATCH")
+    void patchNewFilingIfMatch() throws Exception {
+        final var self = createFiling();
+        final var etag = mockMvc.perform(get(self).headers(httpHeaders))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        final var patchedEtag = mockMvc.perform(patch(self).content(PATCH_CEASED_ON)
+                        .contentType(APPLICATION_JSON_MERGE_PATCH)
+                        .headers(httpHeaders)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ceased_on", is("2022-09-14")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(patchedEtag, is(notNullValue()));
+        assertThat(patchedEtag, is(not(etag)));
+        mockMvc.perform(get(self).headers(httpHeaders).header(HttpHeaders.IF_NONE_MATCH,
+                        patchedEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Expect a PATCH with the ETag from before an update to fail with 412")
+    void patchFilingIfMatchWhenStale() throws Exception {
+        final var self = createFiling();
+        final var etag = mockMvc.perform(get(self).headers(httpHeaders))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(patch(self).content(PATCH_CEASED_ON)
+                        .contentType(APPLICATION_JSON_MERGE_PATCH)
+                        .headers(httpHeaders)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch(self).content("{\"ceased_on\": \"2022-09-15\"}")
+                        .contentType(APPLICATION_JSON_MERGE_PATCH)
+                        .headers(httpHeaders)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private String createFiling() throws Exception {
+        return mockMvc.perform(post(URL_PSC_INDIVIDUAL, TRANS_ID)
+                        .content("{" + PSC07_FRAGMENT + "}")
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+    }
+}
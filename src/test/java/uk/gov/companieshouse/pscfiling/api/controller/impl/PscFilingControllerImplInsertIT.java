@@ -0,0 +1,157 @@
+package uk.gov.companieshouse.pscfiling.api.controller.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
+
+/**
+ * Counts the data store operations made by a filing POST, as the commands MongoDB receives.
+ */
+@Tag("app")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {"spring.data.mongodb.field-naming-strategy="
+        + "org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy"})
+@AutoConfigureMockMvc
+class PscFilingControllerImplInsertIT extends BaseControllerIT {
+    private static final Set<String> DATA_COMMANDS = Set.of("insert", "update", "delete", "find",
+            "findAndModify", "aggregate", "count", "distinct");
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @MockBean
+    private TransactionService transactionService;
+    @MockBean
+    private Clock clock;
+    @MockBean
+    private Logger logger;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MongoCommands mongoCommands;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        baseSetUp();
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        mongoCommands.clear();
+    }
+
+    @Test
+    @DisplayName("Expect a single insert when creating an individual PSC filing")
+    void createIndividualFilingIssuesOneMongoCommand() throws Exception {
+        mockMvc.perform(post(URL_PSC_INDIVIDUAL, TRANS_ID).content("{" + PSC07_FRAGMENT + "}")
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andExpect(status().isCreated());
+
+        assertThat(mongoCommands.started(), contains(new MongoCommand("insert", 1)));
+    }
+
+    @Test
+    @DisplayName("Expect a single insert when creating a corporate entity PSC filing")
+    void createCorporateEntityFilingIssuesOneMongoCommand() throws Exception {
+        mockMvc.perform(post(URL_PSC_CORPORATE_ENTITY, TRANS_ID).content(
+                                "{" + PSC07_FRAGMENT + "}")
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andExpect(status().isCreated());
+
+        assertThat(mongoCommands.started(), contains(new MongoCommand("insert", 1)));
+    }
+
+    @Test
+    @DisplayName("Expect a single bulk insert when creating several individual PSC filings")
+    void createIndividualFilingsIssuesOneMongoCommand() throws Exception {
+        mockMvc.perform(post(URL_PSC_INDIVIDUAL + "/bulk", TRANS_ID).content(
+                                "[{" + PSC07_FRAGMENT + "},{" + PSC07_FRAGMENT + "},{"
+                                        + PSC07_FRAGMENT + "}]")
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andExpect(status().isCreated());
+
+        verify(transactionService).updateTransaction(transaction);
+        assertThat(mongoCommands.started(), contains(new MongoCommand("insert", 3)));
+    }
+
+    /**
+     * A data command received by MongoDB.
+     *
+     * @param name          the command name
+     * @param documentCount the number of documents written by an insert, otherwise 0
+     */
+    record MongoCommand(String name, int documentCount) {
+    }
+
+    /**
+     * Records the data commands sent to MongoDB, leaving out connection and session handling.
+     */
+    static class MongoCommands implements CommandListener {
+        private final List<MongoCommand> started = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(final CommandStartedEvent event) {
+            if (DATA_COMMANDS.contains(event.getCommandName())) {
+                final var documents = event.getCommand().getArray("documents", null);
+
+                started.add(new MongoCommand(event.getCommandName(),
+                        documents == null ? 0 : documents.size()));
+            }
+        }
+
+        List<MongoCommand> started() {
+            return List.copyOf(started);
+        }
+
+        void clear() {
+            started.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class MongoCommandsConfig {
+        @Bean
+        MongoCommands mongoCommands() {
+            return new MongoCommands();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer mongoCommandsCustomizer(
+                final MongoCommands mongoCommands) {
+            return settings -> settings.addCommandListener(mongoCommands);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.time.Clock;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.validation.FieldError;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -49,8 +51,10 @@ import uk.gov.companieshouse.pscfiling.api.model.dto.PscIndividualDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
 import uk.gov.companieshouse.pscfiling.api.model.entity.NameElements;
 import uk.gov.companieshouse.pscfiling.api.model.entity.NaturesOfControlList;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.provider.PscIndividualFilingProvider;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.FilingValidationService;
 import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
@@ -98,12 +102,16 @@ class PscIndividualFilingControllerImplIT extends BaseControllerIT {
     @SpyBean
     private PscMapper filingMapper;
     @MockBean
+    private FilingResponseCache filingResponseCache;
+    @MockBean
     private Clock clock;
     @MockBean
     private Logger logger;
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -160,12 +168,10 @@ class PscIndividualFilingControllerImplIT extends BaseControllerIT {
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
                 PASSTHROUGH_HEADER)).thenReturn(pscDetails);
         when(pscDetails.getName()).thenReturn("Mr Joe Bloggs");
-        when(pscIndividualFilingService.save(any(PscIndividualFiling.class))).thenReturn(
+        when(pscIndividualFilingService.insert(any(PscIndividualFiling.class))).thenReturn(
                         PscIndividualFiling.builder(filing)
                                 .id(FILING_ID)
-                                .build()) // copy of 'filing' with id=FILING_ID
-                .thenAnswer(i -> PscIndividualFiling.builder(i.getArgument(0))
-                        .build()); // copy of first argument
+                                .build()); // copy of 'filing' with id=FILING_ID
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
         mockMvc.perform(post(URL_PSC_INDIVIDUAL, TRANS_ID).content(body)
@@ -443,12 +449,10 @@ class PscIndividualFilingControllerImplIT extends BaseControllerIT {
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
                 PASSTHROUGH_HEADER)).thenReturn(pscDetails);
         when(pscDetails.getName()).thenReturn("Mr Joe Bloggs");
-        when(pscIndividualFilingService.save(any(PscIndividualFiling.class))).thenReturn(
+        when(pscIndividualFilingService.insert(any(PscIndividualFiling.class))).thenReturn(
                         PscIndividualFiling.builder(filing)
                                 .id(FILING_ID)
-                                .build()) // copy of 'filing' with id=FILING_ID
-                .thenAnswer(i -> PscIndividualFiling.builder(i.getArgument(0))
-                        .build()); // copy of first argument
+                                .build()); // copy of 'filing' with id=FILING_ID
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
         mockMvc.perform(post(URL_PSC_INDIVIDUAL, TRANS_ID).content(body)
@@ -514,6 +518,8 @@ class PscIndividualFilingControllerImplIT extends BaseControllerIT {
         when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(any(HttpServletRequest.class),
                 eq(filing))).thenReturn(true);
+        when(filingResponseCache.get(FILING_ID, filing)).thenAnswer(
+                i -> objectMapper.writeValueAsBytes(filing));
 
         mockMvc.perform(get(URL_PSC_INDIVIDUAL_RESOURCE, TRANS_ID, FILING_ID).headers(httpHeaders))
                 .andDo(print())
@@ -523,6 +529,23 @@ class PscIndividualFilingControllerImplIT extends BaseControllerIT {
                 .andExpect(jsonPath("$.ceased_on", is(CEASED_ON_DATE.toString())));
     }
 
+    @Test
+    void getFilingForReviewNotModifiedThenResponse304() throws Exception {
+        final var summary = new PscFilingSummary(FILING_ID, null, "etag",
+                PscTypeConstants.INDIVIDUAL, ETAG, PSC_ID, null, null);
+
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(any(HttpServletRequest.class),
+                eq(summary))).thenReturn(true);
+
+        mockMvc.perform(get(URL_PSC_INDIVIDUAL_RESOURCE, TRANS_ID, FILING_ID).headers(httpHeaders)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""));
+        verifyNoInteractions(pscIndividualFilingService);
+    }
+
     @Test
     void getFilingForReviewNotFoundThenResponse404() throws Exception {
 
@@ -563,6 +586,78 @@ class PscIndividualFilingControllerImplIT extends BaseControllerIT {
                 .andExpect(jsonPath("$.errors[0].error_values").doesNotExist());
     }
 
+    @Test
+    void createFilingsWhenPayloadsOKThenResponse201() throws Exception {
+        final var body = "[{" + PSC07_FRAGMENT + "},{" + PSC07_FRAGMENT.replace(PSC_ID, "other")
+                + "}]";
+
+        when(pscIndividualFilingService.insertAll(any())).thenAnswer(i -> i.getArgument(0));
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+
+        mockMvc.perform(post(URL_PSC_INDIVIDUAL + "/bulk", TRANS_ID).content(body)
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].reference_psc_id", is(PSC_ID)))
+                .andExpect(jsonPath("$[1].reference_psc_id", is("other")))
+                .andExpect(jsonPath("$[1].links.self",
+                        containsString("/persons-with-significant-control/individual/")));
+        verify(pscIndividualFilingService).insertAll(any());
+        verify(transactionService).updateTransaction(transaction);
+    }
+
+    @Test
+    void createFilingsWhenOneCeasedOnDateFutureThenResponse400() throws Exception {
+        final var body = "[{" + PSC07_FRAGMENT + "},{" + PSC07_FRAGMENT.replace("2022-09-13",
+                "3000-09-13") + "}]";
+
+        mockMvc.perform(post(URL_PSC_INDIVIDUAL + "/bulk", TRANS_ID).content(body)
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].location", is("$[1].ceased_on")))
+                .andExpect(jsonPath("$.errors[0].error",
+                        containsString("must be a date in the past or in the present")))
+                .andExpect(jsonPath("$.errors[0].error_values",
+                        hasEntry("rejected-value", "3000-09-13")));
+        verifyNoInteractions(pscIndividualFilingService, transactionService);
+    }
+
+    @Test
+    void createFilingsWhenEmptyThenResponse400() throws Exception {
+        mockMvc.perform(post(URL_PSC_INDIVIDUAL + "/bulk", TRANS_ID).content("[]")
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].location", is("$")))
+                .andExpect(jsonPath("$.errors[0].error_values",
+                        hasEntry("rejected-value", "0")));
+        verifyNoInteractions(pscIndividualFilingService, transactionService);
+    }
+
+    @Test
+    void createFilingsWhenItemNullThenResponse400() throws Exception {
+        final var body = "[{" + PSC07_FRAGMENT + "},null]";
+
+        mockMvc.perform(post(URL_PSC_INDIVIDUAL + "/bulk", TRANS_ID).content(body)
+                        .requestAttr("transaction", transaction)
+                        .contentType(APPLICATION_JSON)
+                        .headers(httpHeaders))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].location", is("$[1]")));
+        verifyNoInteractions(pscIndividualFilingService, transactionService);
+    }
 
     private ApiError createExpectedValidationError(final String msg,
                                                    final String location,
@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -87,6 +89,9 @@ class PscIndividualFilingControllerImplMergeIT extends BaseControllerIT {
     @BeforeEach
     void setUp() throws Exception {
         baseSetUp();
+        // stands in for the stored form of a filing: differs whenever the filing does
+        when(individualFilingRepository.toDocument(any(PscIndividualFiling.class))).thenAnswer(
+            i -> new Document("filing", i.getArgument(0).toString()));
         nameElements = NameElements.builder()
                 .forename("Forename")
                 .otherForenames("Other Forenames")
@@ -141,11 +146,11 @@ class PscIndividualFilingControllerImplMergeIT extends BaseControllerIT {
             .links(links)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(individualFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
-        when(individualFilingRepository.save(any(PscIndividualFiling.class))).thenAnswer(
-            i -> PscIndividualFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+        when(individualFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
+            any(PscIndividualFiling.class))).thenAnswer(
+            i -> Optional.of(PscIndividualFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_INDIVIDUAL_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -190,11 +195,11 @@ class PscIndividualFilingControllerImplMergeIT extends BaseControllerIT {
             .links(links)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(individualFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
-        when(individualFilingRepository.save(any(PscIndividualFiling.class))).thenAnswer(
-            i -> PscIndividualFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+        when(individualFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
+            any(PscIndividualFiling.class))).thenAnswer(
+            i -> Optional.of(PscIndividualFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_INDIVIDUAL_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -241,11 +246,11 @@ class PscIndividualFilingControllerImplMergeIT extends BaseControllerIT {
             .registerEntryDate(REGISTER_ENTRY_DATE)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(individualFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
-        when(individualFilingRepository.save(any(PscIndividualFiling.class))).thenAnswer(
-            i -> PscIndividualFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+        when(individualFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
+            any(PscIndividualFiling.class))).thenAnswer(
+            i -> Optional.of(PscIndividualFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_INDIVIDUAL_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -281,11 +286,11 @@ class PscIndividualFilingControllerImplMergeIT extends BaseControllerIT {
             .updatedAt(FIRST_INSTANT)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(individualFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
-        when(individualFilingRepository.save(any(PscIndividualFiling.class))).thenAnswer(
-            i -> PscIndividualFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+        when(individualFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
+            any(PscIndividualFiling.class))).thenAnswer(
+            i -> Optional.of(PscIndividualFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_INDIVIDUAL_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -323,7 +328,6 @@ class PscIndividualFilingControllerImplMergeIT extends BaseControllerIT {
             .links(links)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(individualFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
@@ -367,7 +371,6 @@ class PscIndividualFilingControllerImplMergeIT extends BaseControllerIT {
         final var expectedError = createExpectedValidationError(
         );
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(individualFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
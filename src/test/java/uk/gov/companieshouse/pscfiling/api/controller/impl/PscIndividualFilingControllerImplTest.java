@@ -4,39 +4,50 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.pscfiling.api.controller.impl.BaseFilingControllerImpl.VALIDATION_STATUS;
 import static uk.gov.companieshouse.pscfiling.api.model.entity.Links.PREFIX_PRIVATE;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -46,14 +57,19 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.patch.model.PatchResult;
 import uk.gov.companieshouse.pscfiling.api.controller.PscIndividualFilingController;
 import uk.gov.companieshouse.pscfiling.api.error.RetrievalFailureReason;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
 import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscfiling.api.exception.InvalidBulkFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidPatchException;
 import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.dto.PscIndividualDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
@@ -67,10 +83,12 @@ class PscIndividualFilingControllerImplTest {
     private static final PscTypeConstants PSC_TYPE = PscTypeConstants.INDIVIDUAL;
     private static final String PASSTHROUGH_HEADER = "passthrough";
     public static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    private static final byte[] FILING_JSON = "{}".getBytes(StandardCharsets.UTF_8);
     private static final URI REQUEST_URI =
             URI.create("/transactions/" + TRANS_ID + "/persons-with-significant-control/");
     private static final Instant FIRST_INSTANT = Instant.parse("2022-10-15T09:44:08.108Z");
     private static final LocalDate TEST_DATE = LocalDate.of(2022, 9, 13);
+    private static final int MAX_BULK_ITEMS = 2;
 
     private PscIndividualFilingController testController;
     @Mock
@@ -93,6 +111,12 @@ class PscIndividualFilingControllerImplTest {
     private Transaction transaction;
     @Mock
     private PscIndividualFilingService pscIndividualFilingService;
+    @Mock
+    private FilingResponseCache filingResponseCache;
+    @Mock
+    private PscIndividualDto otherDto;
+    @Mock
+    private Validator validator;
 
     private PscIndividualFiling filing;
     private Links links;
@@ -103,7 +127,8 @@ class PscIndividualFilingControllerImplTest {
     @BeforeEach
     void setUp() {
         testController = new PscIndividualFilingControllerImpl(transactionService, pscFilingService,
-                pscIndividualFilingService, filingMapper, clock, logger) {
+                pscIndividualFilingService, filingMapper, validator, filingResponseCache,
+                MAX_BULK_ITEMS, clock, logger) {
         };
         filing = PscIndividualFiling.builder()
             .referencePscId(PSC_ID)
@@ -136,8 +161,7 @@ class PscIndividualFilingControllerImplTest {
         final var withLinks = PscIndividualFiling.builder(withFilingId)
             .links(links)
             .build();
-        when(pscIndividualFilingService.save(filing)).thenReturn(withFilingId);
-        when(pscIndividualFilingService.save(withLinks)).thenReturn(withLinks);
+        when(pscIndividualFilingService.insert(any(PscIndividualFiling.class))).thenReturn(withLinks);
         when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
@@ -145,6 +169,13 @@ class PscIndividualFilingControllerImplTest {
             testController.createFiling(TRANS_ID, PscTypeConstants.INDIVIDUAL, transaction, dto,
                         nullBindingResult ? null : result, request);
 
+        final var inserted = ArgumentCaptor.forClass(PscIndividualFiling.class);
+        verify(pscIndividualFilingService).insert(inserted.capture());
+        assertThat(inserted.getValue().getLinks().self().toString(),
+                is(REQUEST_URI + "/" + inserted.getValue().getId()));
+        assertThat(inserted.getValue().getTransactionId(), is(TRANS_ID));
+        assertThat(inserted.getValue().getPscType(), is(PSC_TYPE));
+        assertThat(inserted.getValue().getEtag(), is(notNullValue()));
         // refEq needed to compare Map value objects; Resource does not override equals()
         verify(transaction).setResources(refEq(resourceMap));
         verify(transactionService).updateTransaction(transaction);
@@ -168,8 +199,7 @@ class PscIndividualFilingControllerImplTest {
         final var withLinks = PscIndividualFiling.builder(withFilingId)
                 .links(links)
                 .build();
-        when(pscIndividualFilingService.save(filing)).thenReturn(withFilingId);
-        when(pscIndividualFilingService.save(withLinks)).thenReturn(withLinks);
+        when(pscIndividualFilingService.insert(any(PscIndividualFiling.class))).thenReturn(withLinks);
         when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
@@ -198,6 +228,77 @@ class PscIndividualFilingControllerImplTest {
         assertThat(exception.getFieldErrors(), contains(fieldErrorWithRejectedValue));
     }
 
+    @Test
+    void createFilings() {
+        final var otherFiling = PscIndividualFiling.builder(filing).referencePscId("other").build();
+
+        when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(
+                PASSTHROUGH_HEADER);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI + "/bulk");
+        when(clock.instant()).thenReturn(FIRST_INSTANT);
+        when(filingMapper.map(dto)).thenReturn(filing);
+        when(filingMapper.map(otherDto)).thenReturn(otherFiling);
+        when(pscIndividualFilingService.insertAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        final var response =
+                testController.createFilings(TRANS_ID, PscTypeConstants.INDIVIDUAL, transaction,
+                        List.of(dto, otherDto), request);
+
+        final var saved = response.getBody();
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Map<String, Resource>> resources = ArgumentCaptor.forClass(Map.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.CREATED));
+        assertThat(saved, hasSize(2));
+        assertThat(saved.get(0).getReferencePscId(), is(PSC_ID));
+        assertThat(saved.get(1).getReferencePscId(), is("other"));
+        assertThat(saved.get(0).getEtag(), is(notNullValue()));
+        assertThat(saved.get(1).getEtag(), is(not(saved.get(0).getEtag())));
+        assertThat(saved.get(1).getLinks().self().toString(),
+                is(REQUEST_URI + "/" + saved.get(1).getId()));
+        verify(pscIndividualFilingService).insertAll(saved);
+        verify(transaction).setResources(resources.capture());
+        assertThat(resources.getValue().keySet(),
+                containsInAnyOrder(saved.get(0).getLinks().self().toString(),
+                        saved.get(1).getLinks().self().toString()));
+        verify(transactionService).updateTransaction(transaction);
+    }
+
+    @Test
+    void createFilingsWhenRequestEmpty() {
+        final var exception = assertThrows(InvalidFilingException.class,
+                () -> testController.createFilings(TRANS_ID, PscTypeConstants.INDIVIDUAL,
+                        transaction, List.of(), request));
+
+        assertThat(exception.getFieldErrors(), hasSize(1));
+        assertThat(exception.getFieldErrors().get(0).getCode(), is("Size"));
+        assertThat(exception.getFieldErrors().get(0).getRejectedValue(), is(0));
+        verifyNoInteractions(pscIndividualFilingService, transactionService);
+    }
+
+    @Test
+    void createFilingsWhenRequestTooLarge() {
+        final var exception = assertThrows(InvalidFilingException.class,
+                () -> testController.createFilings(TRANS_ID, PscTypeConstants.INDIVIDUAL,
+                        transaction, List.of(dto, otherDto, dto), request));
+
+        assertThat(exception.getFieldErrors(), hasSize(1));
+        assertThat(exception.getFieldErrors().get(0).getCode(), is("Size"));
+        assertThat(exception.getFieldErrors().get(0).getRejectedValue(), is(3));
+        verifyNoInteractions(pscIndividualFilingService, transactionService);
+    }
+
+    @Test
+    void createFilingsWhenItemNull() {
+        final var exception = assertThrows(InvalidBulkFilingException.class,
+                () -> testController.createFilings(TRANS_ID, PscTypeConstants.INDIVIDUAL,
+                        transaction, Arrays.asList(dto, null), request));
+
+        assertThat(exception.getFieldErrors().keySet(), contains(1));
+        assertThat(exception.getFieldErrors().get(1).get(0).getCode(), is("NotNull"));
+        verifyNoInteractions(pscIndividualFilingService, transactionService);
+    }
+
     private Map<String, Resource> createResources() {
         final Map<String, Resource> resourceMap = new HashMap<>();
         final var resource = new Resource();
@@ -218,12 +319,70 @@ class PscIndividualFilingControllerImplTest {
     void getFilingForReviewWhenFound() {
         when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
+        when(filingResponseCache.get(FILING_ID, filing)).thenReturn(FILING_JSON);
+
+        final var response =
+                testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getHeaders().getContentType(), is(MediaType.APPLICATION_JSON));
+        assertThat(response.getHeaders().getETag(), is(nullValue()));
+        assertThat(response.getBody(), is(FILING_JSON));
+    }
+
+    @Test
+    void getFilingForReviewWhenNotModified() {
+        final var summary = new PscFilingSummary(FILING_ID, links, "etag", PSC_TYPE, null, PSC_ID,
+                null, null);
+
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("W/\"other\", \"etag\"");
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(request, summary)).thenReturn(true);
+
+        final var response =
+                testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(response.getHeaders().getETag(), is("\"etag\""));
+        assertThat(response.getBody(), is(nullValue()));
+        verifyNoInteractions(pscIndividualFilingService, filingResponseCache);
+    }
+
+    @Test
+    void getFilingForReviewWhenAnyEtagNotModified() {
+        final var summary = new PscFilingSummary(FILING_ID, links, "etag", PSC_TYPE, null, PSC_ID,
+                null, null);
+
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("*");
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(request, summary)).thenReturn(true);
+
+        final var response =
+                testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(response.getHeaders().getETag(), is("\"etag\""));
+        verifyNoInteractions(pscIndividualFilingService, filingResponseCache);
+    }
+
+    @Test
+    void getFilingForReviewWhenModified() {
+        final var patched = PscIndividualFiling.builder(filing).etag("patched").build();
+        final var summary = PscFilingSummary.of(FILING_ID, patched);
+
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"etag\"");
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(request, summary)).thenReturn(true);
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(patched));
+        when(pscFilingService.requestMatchesResourceSelf(request, patched)).thenReturn(true);
+        when(filingResponseCache.get(FILING_ID, patched)).thenReturn(FILING_JSON);
 
         final var response =
                 testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID, request);
 
         assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody(), is(filing));
+        assertThat(response.getHeaders().getETag(), is("\"patched\""));
+        assertThat(response.getBody(), is(FILING_JSON));
     }
 
     @Test
@@ -249,19 +408,18 @@ class PscIndividualFilingControllerImplTest {
 
     @Test
     void updateFiling() {
-        final var success = new PatchResult();
         final Instant updatedInstant = Instant.parse("2022-11-15T09:44:08.108Z");
         final var updatedFiling = PscIndividualFiling.builder(filing).updatedAt(updatedInstant)
                 .links(links).build();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing)).thenReturn(
-            Optional.of(updatedFiling));
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
-        when(pscIndividualFilingService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscIndividualFilingService.patch(eq(filing), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.succeeded(updatedFiling));
 
         final var response =
-            testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, Collections.emptyMap(),
-                request);
+            testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID,
+                JsonNodeFactory.instance.objectNode(), request);
 
         assertThat(response.getStatusCode(), is(HttpStatus.OK));
         assertThat(response.getBody(), is(notNullValue()));
@@ -272,17 +430,56 @@ class PscIndividualFilingControllerImplTest {
 
     }
 
+    @Test
+    void updateFilingIfMatch() {
+        final var current = PscIndividualFiling.builder(filing).etag("etag").links(links).build();
+        final var updatedFiling = PscIndividualFiling.builder(current).etag("updated").build();
+
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(current));
+        when(pscFilingService.requestMatchesResourceSelf(request, current)).thenReturn(true);
+        when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("\"etag\"");
+        when(pscIndividualFilingService.patchIfUnchanged(eq(current), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.succeeded(updatedFiling));
+
+        final var response =
+            testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID,
+                JsonNodeFactory.instance.objectNode(), request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(updatedFiling));
+        assertThat(response.getHeaders().getETag(), is("\"updated\""));
+        verify(pscIndividualFilingService, never()).patch(any(PscIndividualFiling.class), any(JsonNode.class));
+    }
+
+    @Test
+    void updateFilingIfMatchWhenEtagChanged() {
+        final var current = PscIndividualFiling.builder(filing).id(FILING_ID).etag("etag").build();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
+
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(current));
+        when(pscFilingService.requestMatchesResourceSelf(request, current)).thenReturn(true);
+        when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("W/\"etag\", \"other\"");
+
+        final var exception = assertThrows(FilingPreconditionFailedException.class,
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
+
+        assertThat(exception.getMessage(), is(FILING_ID));
+        verify(pscIndividualFilingService, never()).patchIfUnchanged(any(), any(JsonNode.class));
+        verify(pscIndividualFilingService, never()).patch(any(PscIndividualFiling.class), any(JsonNode.class));
+    }
+
     @Test
     void updateFilingWhenPatchProviderRetrievalFails() {
         final var failure = new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND);
-        final Map<String, Object> map = Collections.emptyMap();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
-        when(pscIndividualFilingService.patch(eq(FILING_ID), anyMap())).thenReturn(failure);
+        when(pscIndividualFilingService.patch(eq(filing), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.failed(failure));
 
         final var exception = assertThrows(FilingResourceNotFoundException.class,
-            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, map, request));
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
 
         assertThat(exception.getMessage(), is(FILING_ID));
     }
@@ -296,14 +493,15 @@ class PscIndividualFilingControllerImplTest {
             "future.date"
         }, new Object[]{TEST_DATE}, "bad date");
         final var failure = new PatchResult(List.of(error));
-        final Map<String, Object> map = Collections.emptyMap();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
-        when(pscIndividualFilingService.patch(eq(FILING_ID), anyMap())).thenReturn(failure);
+        when(pscIndividualFilingService.patch(eq(filing), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.failed(failure));
 
         final var exception = assertThrows(InvalidPatchException.class,
-            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, map, request));
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
 
         assertThat(exception.getFieldErrors(), hasSize(1));
         assertThat(exception.getFieldErrors().getFirst(), is(error));
@@ -311,12 +509,12 @@ class PscIndividualFilingControllerImplTest {
 
     @Test
     void updateFilingWhenSelfLinkMatchFails() {
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(false);
 
-        final Map<String, Object> map = Collections.emptyMap();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
         final var exception = assertThrows(FilingResourceNotFoundException.class,
-            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, map, request));
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
 
         assertThat(exception.getMessage(), is(FILING_ID));
     }
@@ -17,6 +17,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.time.Clock;
 import java.util.List;
@@ -32,6 +33,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.validation.FieldError;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -48,8 +50,10 @@ import uk.gov.companieshouse.pscfiling.api.model.dto.PscWithIdentificationDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
 import uk.gov.companieshouse.pscfiling.api.model.entity.NaturesOfControlList;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 import uk.gov.companieshouse.pscfiling.api.provider.PscWithIdentificationFilingProvider;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingMergeProcessor;
@@ -93,12 +97,16 @@ class PscWithIdentificationFilingControllerImplIT extends BaseControllerIT {
     @SpyBean
     private PscMapper filingMapper;
     @MockBean
+    private FilingResponseCache filingResponseCache;
+    @MockBean
     private Clock clock;
     @MockBean
     private Logger logger;
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -146,13 +154,11 @@ class PscWithIdentificationFilingControllerImplIT extends BaseControllerIT {
                 transaction);
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.CORPORATE_ENTITY,
                 PASSTHROUGH_HEADER)).thenReturn(pscDetails);
-        when(pscWithIdentificationFilingService.save(
+        when(pscWithIdentificationFilingService.insert(
                 any(PscWithIdentificationFiling.class))).thenReturn(
                         PscWithIdentificationFiling.builder(filing)
                                 .id(FILING_ID)
-                                .build()) // copy of 'filing' with id=FILING_ID
-                .thenAnswer(i -> PscWithIdentificationFiling.builder(i.getArgument(0))
-                        .build()); // copy of first argument
+                                .build()); // copy of 'filing' with id=FILING_ID
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
         mockMvc.perform(post(URL_PSC_CORPORATE_ENTITY, TRANS_ID).content(body)
@@ -423,12 +429,10 @@ class PscWithIdentificationFilingControllerImplIT extends BaseControllerIT {
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.CORPORATE_ENTITY,
             PASSTHROUGH_HEADER)).thenReturn(pscDetails);
         when(pscDetails.getName()).thenReturn("Joe Bloggs Limited");
-        when(pscWithIdentificationFilingService.save(
+        when(pscWithIdentificationFilingService.insert(
             any(PscWithIdentificationFiling.class))).thenReturn(
                 PscWithIdentificationFiling.builder(filing).id(FILING_ID)
-                    .build()) // copy of 'filing' with id=FILING_ID
-            .thenAnswer(i -> PscWithIdentificationFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+                    .build()); // copy of 'filing' with id=FILING_ID
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
         mockMvc.perform(
@@ -490,6 +494,8 @@ class PscWithIdentificationFilingControllerImplIT extends BaseControllerIT {
         when(pscFilingService.requestMatchesResourceSelf(any(HttpServletRequest.class),
                 eq(filing))).thenReturn(true);
         when(filingMapper.map((PscCommunal) filing)).thenReturn(dto);
+        when(filingResponseCache.get(FILING_ID, filing)).thenAnswer(
+                i -> objectMapper.writeValueAsBytes(filing));
 
         mockMvc.perform(get(URL_PSC_CORPORATE_ENTITY + "/{filingId}", TRANS_ID, FILING_ID).headers(httpHeaders))
                 .andDo(print())
@@ -499,6 +505,24 @@ class PscWithIdentificationFilingControllerImplIT extends BaseControllerIT {
                 .andExpect(jsonPath("$.ceased_on", is(CEASED_ON_DATE.toString())));
     }
 
+    @Test
+    void getFilingForReviewNotModifiedThenResponse304() throws Exception {
+        final var summary = new PscFilingSummary(FILING_ID, null, "etag",
+                PscTypeConstants.CORPORATE_ENTITY, ETAG, PSC_ID, null, null);
+
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(any(HttpServletRequest.class),
+                eq(summary))).thenReturn(true);
+
+        mockMvc.perform(get(URL_PSC_CORPORATE_ENTITY + "/{filingId}", TRANS_ID,
+                        FILING_ID).headers(httpHeaders)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""));
+        verifyNoInteractions(pscWithIdentificationFilingService);
+    }
+
     @Test
     void getFilingForReviewNotFoundThenResponse404() throws Exception {
 
@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -40,7 +42,6 @@ import uk.gov.companieshouse.pscfiling.api.config.PatchServiceProperties;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Identification;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
 import uk.gov.companieshouse.pscfiling.api.model.entity.NaturesOfControlList;
-import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 import uk.gov.companieshouse.pscfiling.api.repository.PscFilingRepository;
 import uk.gov.companieshouse.pscfiling.api.repository.PscWithIdentificationFilingRepository;
@@ -89,6 +90,9 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
     @BeforeEach
     void setUp() throws Exception {
         baseSetUp();
+        // stands in for the stored form of a filing: differs whenever the filing does
+        when(withIdentificationFilingRepository.toDocument(any(PscWithIdentificationFiling.class))).thenAnswer(
+            i -> new Document("filing", i.getArgument(0).toString()));
         identification = Identification.builder()
                 .countryRegistered("country")
                 .placeRegistered("place")
@@ -147,13 +151,12 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
             .identification(identification)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(
             Optional.of(filing));
-        when(withIdentificationFilingRepository.save(
+        when(withIdentificationFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
             any(PscWithIdentificationFiling.class))).thenAnswer(
-            i -> PscWithIdentificationFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+            i -> Optional.of(PscWithIdentificationFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_CORPORATE_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -199,13 +202,12 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
             .links(links)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(
             Optional.of(filing));
-        when(withIdentificationFilingRepository.save(
+        when(withIdentificationFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
             any(PscWithIdentificationFiling.class))).thenAnswer(
-            i -> PscWithIdentificationFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+            i -> Optional.of(PscWithIdentificationFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_CORPORATE_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -258,13 +260,12 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
             .registerEntryDate(REGISTER_ENTRY_DATE)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(
             Optional.of(filing));
-        when(withIdentificationFilingRepository.save(
+        when(withIdentificationFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
             any(PscWithIdentificationFiling.class))).thenAnswer(
-            i -> PscWithIdentificationFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+            i -> Optional.of(PscWithIdentificationFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_CORPORATE_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -304,13 +305,12 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
                 .updatedAt(FIRST_INSTANT)
                 .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(
             Optional.of(filing));
-        when(withIdentificationFilingRepository.save(
+        when(withIdentificationFilingRepository.updateByIdAndEtag(eq(FILING_ID), any(), any(),
             any(PscWithIdentificationFiling.class))).thenAnswer(
-            i -> PscWithIdentificationFiling.builder(i.getArgument(0))
-                .build()); // copy of first argument
+            i -> Optional.of(PscWithIdentificationFiling.builder(i.getArgument(3))
+                .build())); // copy of fourth argument
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_CORPORATE_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -350,7 +350,7 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
                 .links(links)
                 .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
+        when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         final var expectedError = "{rejected-value} must be a date in the past or in the present";
@@ -393,7 +393,7 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
         final var expectedError = createExpectedValidationError(
         );
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
+        when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
         when(clock.instant()).thenReturn(SECOND_INSTANT);
 
         mockMvc.perform(patch(URL_PSC_CORPORATE_RESOURCE, TRANS_ID, FILING_ID).content(body)
@@ -422,7 +422,7 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
     void updateFilingWhenNotFoundThen404() throws Exception {
         final var body = "{ }";
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.empty());
+        when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(Optional.empty());
 
         mockMvc.perform(patch(URL_PSC_CORPORATE_RESOURCE, TRANS_ID, FILING_ID).content(body)
                 .contentType(APPLICATION_JSON_MERGE_PATCH)
@@ -445,7 +445,7 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
         final var body = "{ }";
         final URI BAD_SELF_URI = URI.create("/path/to/other_or_bad");
         final var links = new Links(BAD_SELF_URI, VALIDATION_URI);
-        final var filing = PscIndividualFiling.builder()
+        final var filing = PscWithIdentificationFiling.builder()
             .id(FILING_ID)
             .referenceEtag(ETAG)
             .referencePscId(PSC_ID)
@@ -453,7 +453,7 @@ class PscWithIdentificationFilingControllerImplMergeIT extends BaseControllerIT
             .links(links)
             .build();
 
-        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
+        when(withIdentificationFilingRepository.findById(FILING_ID)).thenReturn(Optional.of(filing));
 
         mockMvc.perform(patch(URL_PSC_INDIVIDUAL_RESOURCE, TRANS_ID, FILING_ID).content(body)
                 .contentType(APPLICATION_JSON_MERGE_PATCH)
@@ -4,19 +4,25 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.pscfiling.api.controller.impl.BaseFilingControllerImpl.VALIDATION_STATUS;
 import static uk.gov.companieshouse.pscfiling.api.model.entity.Links.PREFIX_PRIVATE;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -32,9 +38,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -44,14 +53,18 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.patch.model.PatchResult;
 import uk.gov.companieshouse.pscfiling.api.controller.PscWithIdentificationFilingController;
 import uk.gov.companieshouse.pscfiling.api.error.RetrievalFailureReason;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
 import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidPatchException;
 import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
+import uk.gov.companieshouse.pscfiling.api.model.FilingPatchResult;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.dto.PscWithIdentificationDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
@@ -64,6 +77,7 @@ class PscWithIdentificationFilingControllerImplTest {
     private static final PscTypeConstants PSC_TYPE = PscTypeConstants.CORPORATE_ENTITY;
     private static final String PASSTHROUGH_HEADER = "passthrough";
     public static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    private static final byte[] FILING_JSON = "{}".getBytes(StandardCharsets.UTF_8);
     private static final URI REQUEST_URI =
             URI.create("/transactions/" + TRANS_ID + "/persons-with-significant-control/");
     private static final Instant FIRST_INSTANT = Instant.parse("2022-10-15T09:44:08.108Z");
@@ -90,6 +104,8 @@ class PscWithIdentificationFilingControllerImplTest {
     private Transaction transaction;
     @Mock
     private PscWithIdentificationFilingService pscWithIdentificationFilingService;
+    @Mock
+    private FilingResponseCache filingResponseCache;
 
     private PscWithIdentificationFiling filing;
     private Links links;
@@ -99,7 +115,8 @@ class PscWithIdentificationFilingControllerImplTest {
     @BeforeEach
     void setUp() {
         testController = new PscWithIdentificationFilingControllerImpl(transactionService, pscFilingService,
-                pscWithIdentificationFilingService, filingMapper, clock, logger) {
+                pscWithIdentificationFilingService, filingMapper, filingResponseCache, clock,
+                logger) {
         };
         filing = PscWithIdentificationFiling.builder()
             .referencePscId(PSC_ID)
@@ -130,8 +147,7 @@ class PscWithIdentificationFilingControllerImplTest {
                 .build();
         final var withLinks = PscWithIdentificationFiling.builder(withFilingId).links(links)
                 .build();
-        when(pscWithIdentificationFilingService.save(filing)).thenReturn(withFilingId);
-        when(pscWithIdentificationFilingService.save(withLinks)).thenReturn(withLinks);
+        when(pscWithIdentificationFilingService.insert(any(PscWithIdentificationFiling.class))).thenReturn(withLinks);
         when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
@@ -139,6 +155,13 @@ class PscWithIdentificationFilingControllerImplTest {
                 PscTypeConstants.CORPORATE_ENTITY, transaction,
                 dto, nullBindingResult ? null : result, request);
 
+        final var inserted = ArgumentCaptor.forClass(PscWithIdentificationFiling.class);
+        verify(pscWithIdentificationFilingService).insert(inserted.capture());
+        assertThat(inserted.getValue().getLinks().self().toString(),
+                is(REQUEST_URI + "/" + inserted.getValue().getId()));
+        assertThat(inserted.getValue().getTransactionId(), is(TRANS_ID));
+        assertThat(inserted.getValue().getPscType(), is(PSC_TYPE));
+        assertThat(inserted.getValue().getEtag(), is(notNullValue()));
         // refEq needed to compare Map value objects; Resource does not override equals()
         verify(transaction).setResources(refEq(resourceMap));
         verify(transactionService).updateTransaction(transaction);
@@ -158,8 +181,7 @@ class PscWithIdentificationFilingControllerImplTest {
             .build();
         final var withLinks = PscWithIdentificationFiling.builder(withFilingId).links(links)
             .build();
-        when(pscWithIdentificationFilingService.save(filing)).thenReturn(withFilingId);
-        when(pscWithIdentificationFilingService.save(withLinks)).thenReturn(withLinks);
+        when(pscWithIdentificationFilingService.insert(any(PscWithIdentificationFiling.class))).thenReturn(withLinks);
         when(request.getRequestURI()).thenReturn(REQUEST_URI.toString());
         when(clock.instant()).thenReturn(FIRST_INSTANT);
 
@@ -204,12 +226,70 @@ class PscWithIdentificationFilingControllerImplTest {
 
         when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
+        when(filingResponseCache.get(FILING_ID, filing)).thenReturn(FILING_JSON);
 
         final var response = testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID,
                 request);
 
         assertThat(response.getStatusCode(), is(HttpStatus.OK));
-        assertThat(response.getBody(), is(filing));
+        assertThat(response.getHeaders().getContentType(), is(MediaType.APPLICATION_JSON));
+        assertThat(response.getHeaders().getETag(), is(nullValue()));
+        assertThat(response.getBody(), is(FILING_JSON));
+    }
+
+    @Test
+    void getFilingForReviewWhenNotModified() {
+        final var summary = new PscFilingSummary(FILING_ID, links, "etag", PSC_TYPE, null, PSC_ID,
+                null, null);
+
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("W/\"other\", \"etag\"");
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(request, summary)).thenReturn(true);
+
+        final var response =
+                testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(response.getHeaders().getETag(), is("\"etag\""));
+        assertThat(response.getBody(), is(nullValue()));
+        verifyNoInteractions(pscWithIdentificationFilingService, filingResponseCache);
+    }
+
+    @Test
+    void getFilingForReviewWhenAnyEtagNotModified() {
+        final var summary = new PscFilingSummary(FILING_ID, links, "etag", PSC_TYPE, null, PSC_ID,
+                null, null);
+
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("*");
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(request, summary)).thenReturn(true);
+
+        final var response =
+                testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(response.getHeaders().getETag(), is("\"etag\""));
+        verifyNoInteractions(pscWithIdentificationFilingService, filingResponseCache);
+    }
+
+    @Test
+    void getFilingForReviewWhenModified() {
+        final var patched = PscWithIdentificationFiling.builder(filing).etag("patched").build();
+        final var summary = PscFilingSummary.of(FILING_ID, patched);
+
+        when(request.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"etag\"");
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscFilingService.requestMatchesResourceSelf(request, summary)).thenReturn(true);
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(patched));
+        when(pscFilingService.requestMatchesResourceSelf(request, patched)).thenReturn(true);
+        when(filingResponseCache.get(FILING_ID, patched)).thenReturn(FILING_JSON);
+
+        final var response =
+                testController.getFilingForReview(TRANS_ID, PSC_TYPE, FILING_ID, request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getHeaders().getETag(), is("\"patched\""));
+        assertThat(response.getBody(), is(FILING_JSON));
     }
 
     @Test
@@ -234,16 +314,15 @@ class PscWithIdentificationFilingControllerImplTest {
 
     @Test
     void updateFiling() {
-        final var success = new PatchResult();
         final Instant updatedInstant = Instant.parse("2022-11-15T09:44:08.108Z");
         final var updatedFiling =
             PscWithIdentificationFiling.builder(filing).updatedAt(updatedInstant)
                     .links(links).build();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing)).thenReturn(
-            Optional.of(updatedFiling));
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
-        when(pscWithIdentificationFilingService.patch(eq(FILING_ID), anyMap())).thenReturn(success);
+        when(pscWithIdentificationFilingService.patch(eq(filing), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.succeeded(updatedFiling));
 
         final var response = testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID,
             Collections.emptyMap(), request);
@@ -257,17 +336,56 @@ class PscWithIdentificationFilingControllerImplTest {
 
     }
 
+    @Test
+    void updateFilingIfMatch() {
+        final var current = PscWithIdentificationFiling.builder(filing).etag("etag").links(links).build();
+        final var updatedFiling = PscWithIdentificationFiling.builder(current).etag("updated").build();
+
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(current));
+        when(pscFilingService.requestMatchesResourceSelf(request, current)).thenReturn(true);
+        when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("\"etag\"");
+        when(pscWithIdentificationFilingService.patchIfUnchanged(eq(current), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.succeeded(updatedFiling));
+
+        final var response =
+            testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID,
+                JsonNodeFactory.instance.objectNode(), request);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is(updatedFiling));
+        assertThat(response.getHeaders().getETag(), is("\"updated\""));
+        verify(pscWithIdentificationFilingService, never()).patch(any(PscWithIdentificationFiling.class), any(JsonNode.class));
+    }
+
+    @Test
+    void updateFilingIfMatchWhenEtagChanged() {
+        final var current = PscWithIdentificationFiling.builder(filing).id(FILING_ID).etag("etag").build();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
+
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(current));
+        when(pscFilingService.requestMatchesResourceSelf(request, current)).thenReturn(true);
+        when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("W/\"etag\", \"other\"");
+
+        final var exception = assertThrows(FilingPreconditionFailedException.class,
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
+
+        assertThat(exception.getMessage(), is(FILING_ID));
+        verify(pscWithIdentificationFilingService, never()).patchIfUnchanged(any(), any(JsonNode.class));
+        verify(pscWithIdentificationFilingService, never()).patch(any(PscWithIdentificationFiling.class), any(JsonNode.class));
+    }
+
     @Test
     void updateFilingWhenPatchProviderRetrievalFails() {
         final var failure = new PatchResult(RetrievalFailureReason.FILING_NOT_FOUND);
-        final Map<String, Object> map = Collections.emptyMap();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
-        when(pscWithIdentificationFilingService.patch(eq(FILING_ID), anyMap())).thenReturn(failure);
+        when(pscWithIdentificationFilingService.patch(eq(filing), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.failed(failure));
 
         final var exception = assertThrows(FilingResourceNotFoundException.class,
-            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, map, request));
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
 
         assertThat(exception.getMessage(), is(FILING_ID));
     }
@@ -282,14 +400,15 @@ class PscWithIdentificationFilingControllerImplTest {
                 "future.date"
             }, new Object[]{TEST_DATE}, "bad date");
         final var failure = new PatchResult(List.of(error));
-        final Map<String, Object> map = Collections.emptyMap();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(true);
-        when(pscWithIdentificationFilingService.patch(eq(FILING_ID), anyMap())).thenReturn(failure);
+        when(pscWithIdentificationFilingService.patch(eq(filing), any(JsonNode.class))).thenReturn(
+            FilingPatchResult.failed(failure));
 
         final var exception = assertThrows(InvalidPatchException.class,
-            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, map, request));
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
 
         assertThat(exception.getFieldErrors(), hasSize(1));
         assertThat(exception.getFieldErrors().getFirst(), is(error));
@@ -297,12 +416,12 @@ class PscWithIdentificationFilingControllerImplTest {
 
     @Test
     void updateFilingWhenSelfLinkMatchFails() {
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
         when(pscFilingService.requestMatchesResourceSelf(request, filing)).thenReturn(false);
 
-        final Map<String, Object> map = Collections.emptyMap();
+        final var mergePatch = JsonNodeFactory.instance.objectNode();
         final var exception = assertThrows(FilingResourceNotFoundException.class,
-            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, map, request));
+            () -> testController.updateFiling(TRANS_ID, PSC_TYPE, FILING_ID, mergePatch, request));
 
         assertThat(exception.getMessage(), is(FILING_ID));
     }
@@ -0,0 +1,244 @@
+package uk.gov.companieshouse.pscfiling.api.controller.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import uk.gov.companieshouse.api.ApiClient;
+import uk.gov.companieshouse.api.AttributeName;
+import uk.gov.companieshouse.api.http.ApiKeyHttpClient;
+import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
+import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
+
+/**
+ * Load benchmark for filing requests that wait on a slow upstream, run once per request
+ * execution mode by the subclasses so that throughput and p99 latency can be compared.
+ * <p>
+ * The transaction lookup made by the transaction interceptor goes through the real
+ * {@link TransactionService} and CHS SDK to a local HTTP server that answers after
+ * {@link #UPSTREAM_LATENCY}. Each request has its own passthrough header, so that no two
+ * requests share an upstream call. Virtual threads pinned to their carrier while blocked are
+ * recorded with JFR and fail the benchmark.
+ * </p>
+ * Run with {@code -Dbenchmark=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class UpstreamLatencyBenchmark extends BaseControllerIT {
+    static final Duration UPSTREAM_LATENCY = Duration.ofMillis(100);
+    private static final int WARM_UP_REQUESTS = 200;
+    private static final int REQUESTS = 2000;
+    private static final int CONCURRENCY = 1000;
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    private static final String TRANSACTION_JSON = "{\"id\":\"" + TRANS_ID
+            + "\",\"company_number\":\"" + COMPANY_NUMBER + "\",\"status\":\"open\"}";
+
+    private static HttpServer upstream;
+
+    @MockBean
+    private ApiClientService apiClientService;
+    @MockBean
+    private PscFilingService pscFilingService;
+    @MockBean
+    private PscIndividualFilingService pscIndividualFilingService;
+    @MockBean
+    private Logger logger;
+
+    @Autowired
+    private TransactionService transactionService;
+    @LocalServerPort
+    private int port;
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @BeforeAll
+    static void startUpstream() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        upstream.createContext("/", exchange -> {
+            try {
+                Thread.sleep(UPSTREAM_LATENCY);
+            }
+            catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final var body = TRANSACTION_JSON.getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (final var responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        upstream.start();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        baseSetUp();
+        final var filing = PscIndividualFiling.builder().referencePscId(PSC_ID).build();
+
+        when(apiClientService.getApiClient(anyString())).thenAnswer(
+                i -> upstreamApiClient(i.getArgument(0)));
+        when(transactionInterceptor.preHandle(any(), any(), any())).thenAnswer(i -> {
+            final var request = i.<HttpServletRequest>getArgument(0);
+            final var passthroughHeader =
+                    request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader());
+
+            request.setAttribute(AttributeName.TRANSACTION.getValue(),
+                    transactionService.getTransaction(TRANS_ID, passthroughHeader));
+            return true;
+        });
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.requestMatchesResourceSelf(any(HttpServletRequest.class),
+                eq(filing))).thenReturn(true);
+    }
+
+    @Test
+    void getFilingWhenUpstreamSlow(final TestReporter reporter) throws Exception {
+        final var pinned = new ConcurrentLinkedQueue<RecordedEvent>();
+
+        try (final var client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build(); final var recording = new RecordingStream()) {
+            recording.enable(VIRTUAL_THREAD_PINNED).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(VIRTUAL_THREAD_PINNED, pinned::add);
+            recording.startAsync();
+
+            run(client, WARM_UP_REQUESTS);
+            final var start = System.nanoTime();
+            final var latencies = run(client, REQUESTS);
+            final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            recording.stop();
+            report(reporter, latencies, elapsed, pinned.size());
+        }
+        assertThat(pinned.stream().map(RecordedEvent::toString).toList(), is(empty()));
+    }
+
+    private long[] run(final HttpClient client, final int requests) throws Exception {
+        final var uri = URI.create("http://localhost:" + port + URL_PSC_INDIVIDUAL_RESOURCE.replace(
+                "{id}", TRANS_ID).replace("{filingResourceId}", FILING_ID));
+        final var permits = new Semaphore(CONCURRENCY);
+        final var results = new ArrayList<Future<Long>>(requests);
+        final var statuses = new ConcurrentLinkedQueue<Integer>();
+
+        try (final var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < requests; i++) {
+                final var request = getRequest(uri, PASSTHROUGH_HEADER + "-" + i);
+
+                permits.acquire();
+                results.add(callers.submit(() -> {
+                    try {
+                        final var sent = System.nanoTime();
+                        final var response =
+                                client.send(request, HttpResponse.BodyHandlers.discarding());
+
+                        statuses.add(response.statusCode());
+                        return System.nanoTime() - sent;
+                    }
+                    finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        assertThat(statuses, everyItem(is(200)));
+
+        final var latencies = new long[requests];
+
+        for (var i = 0; i < requests; i++) {
+            latencies[i] = results.get(i).get();
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private HttpRequest getRequest(final URI uri, final String passthroughHeader) {
+        final var headers = new HttpHeaders();
+
+        headers.addAll(httpHeaders);
+        headers.set(ApiSdkManager.getEricPassthroughTokenHeader(), passthroughHeader);
+
+        return HttpRequest.newBuilder(uri)
+                .headers(headers.toSingleValueMap()
+                        .entrySet()
+                        .stream()
+                        .flatMap(e -> Stream.of(e.getKey(), e.getValue()))
+                        .toArray(String[]::new))
+                .GET()
+                .build();
+    }
+
+    private void report(final TestReporter reporter, final long[] latencies,
+            final Duration elapsed, final int pinnedCount) {
+        reporter.publishEntry(virtualThreads ? "virtual" : "platform", String.format(
+                "upstream latency %d ms: %d requests in %d ms, %.0f requests/s, p50 %d ms, "
+                        + "p99 %d ms, %d pinned",
+                UPSTREAM_LATENCY.toMillis(),
+                latencies.length, elapsed.toMillis(),
+                latencies.length * 1000.0 / elapsed.toMillis(),
+                Duration.ofNanos(percentile(latencies, 50)).toMillis(),
+                Duration.ofNanos(percentile(latencies, 99)).toMillis(), pinnedCount));
+    }
+
+    private static long percentile(final long[] sorted, final int percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1)];
+    }
+
+    private static ApiClient upstreamApiClient(final String passthroughHeader) {
+        final var apiClient = new ApiClient(new ApiKeyHttpClient(passthroughHeader));
+
+        apiClient.setBasePath("http://localhost:" + upstream.getAddress().getPort());
+        return apiClient;
+    }
+}
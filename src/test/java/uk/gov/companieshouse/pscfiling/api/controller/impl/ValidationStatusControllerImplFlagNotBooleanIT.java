@@ -22,10 +22,14 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.config.enumerations.PscFilingConfig;
 import uk.gov.companieshouse.pscfiling.api.mapper.ErrorMapper;
 import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.service.FilingValidationService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 
 //Using Spring Web MVC
 @Tag("web")
@@ -37,12 +41,18 @@ class ValidationStatusControllerImplFlagNotBooleanIT extends BaseControllerIT {
     @MockBean
     private PscFilingService pscFilingService;
     @MockBean
+    private PscIndividualFilingService pscIndividualFilingService;
+    @MockBean
+    private PscWithIdentificationFilingService pscWithIdentificationFilingService;
+    @MockBean
     private FilingValidationService filingValidationService;
     @MockBean
     private PscMapper filingMapper;
     @MockBean
     private ErrorMapper errorMapper;
     @MockBean
+    private ValidationResultCache validationResultCache;
+    @MockBean
     private Logger logger;
     @Autowired
     private MockMvc mockMvc;
@@ -60,7 +70,8 @@ class ValidationStatusControllerImplFlagNotBooleanIT extends BaseControllerIT {
                 .ceasedOn(CEASED_ON_DATE)
                 .build();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
 
         mockMvc.perform(get(URL_VALIDATION_STATUS, TRANS_ID, FILING_ID)
                 .requestAttr("transaction", transaction)
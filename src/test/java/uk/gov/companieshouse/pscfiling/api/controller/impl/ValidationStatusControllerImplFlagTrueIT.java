@@ -19,7 +19,10 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.config.IntegrationTestConfig;
 import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 import uk.gov.companieshouse.pscfiling.api.service.impl.FilingValidationServiceImpl;
 
 @Tag("app")
@@ -32,8 +35,14 @@ class ValidationStatusControllerImplFlagTrueIT extends BaseControllerIT {
     @MockBean
     private PscFilingService pscFilingService;
     @MockBean
+    private PscIndividualFilingService pscIndividualFilingService;
+    @MockBean
+    private PscWithIdentificationFilingService pscWithIdentificationFilingService;
+    @MockBean
     private PscDetailsService pscDetailsService;
     @MockBean
+    private ValidationResultCache validationResultCache;
+    @MockBean
     private Logger logger;
     @Autowired
     private MockMvc mockMvc;
@@ -45,7 +54,7 @@ class ValidationStatusControllerImplFlagTrueIT extends BaseControllerIT {
 
     @Test
     void validateWhenFilingNotFound() throws Exception {
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.empty());
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.empty());
 
         mockMvc.perform(get(URL_VALIDATION_STATUS, TRANS_ID, FILING_ID)
                 .requestAttr("transaction", transaction)
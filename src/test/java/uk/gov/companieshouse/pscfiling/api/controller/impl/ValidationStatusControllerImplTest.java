@@ -8,11 +8,18 @@ import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
 import static org.hamcrest.collection.IsArrayWithSize.arrayWithSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.pscfiling.api.controller.impl.ValidationStatusControllerImpl.TRANSACTION_NOT_SUPPORTED_ERROR;
 
+import java.net.URI;
 import java.util.Optional;
+import java.util.function.Supplier;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,11 +35,17 @@ import uk.gov.companieshouse.pscfiling.api.mapper.ErrorMapper;
 import uk.gov.companieshouse.pscfiling.api.mapper.PscMapper;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.dto.PscIndividualDto;
+import uk.gov.companieshouse.pscfiling.api.model.dto.PscWithIdentificationDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 import uk.gov.companieshouse.pscfiling.api.service.FilingValidationService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +60,10 @@ class ValidationStatusControllerImplTest {
     @Mock
     private PscFilingService pscFilingService;
     @Mock
+    private PscIndividualFilingService pscIndividualFilingService;
+    @Mock
+    private PscWithIdentificationFilingService pscWithIdentificationFilingService;
+    @Mock
     private FilingValidationService filingValidationService;
     @Mock
     private HttpServletRequest request;
@@ -58,6 +75,8 @@ class ValidationStatusControllerImplTest {
     private ErrorMapper errorMapper;
     @Mock
     private Transaction transaction;
+    @Mock
+    private ValidationResultCache validationResultCache;
 
     private ValidationStatusControllerImpl testController;
 
@@ -65,7 +84,8 @@ class ValidationStatusControllerImplTest {
     @BeforeEach
     void setUp() {
         testController = new ValidationStatusControllerImpl(pscFilingService,
-                filingValidationService, filingMapper, errorMapper, true, logger);
+                pscIndividualFilingService, pscWithIdentificationFilingService,
+                filingValidationService, filingMapper, errorMapper, validationResultCache, true, logger);
         when(request.getHeader(ApiSdkManager.getEricPassthroughTokenHeader())).thenReturn(
                 PASSTHROUGH_HEADER);
     }
@@ -73,10 +93,12 @@ class ValidationStatusControllerImplTest {
     @Test
     void validateWhenClosableFlagFalse() {
         testController = new ValidationStatusControllerImpl(pscFilingService,
-                filingValidationService, filingMapper, errorMapper, false, logger);
+                pscIndividualFilingService, pscWithIdentificationFilingService,
+                filingValidationService, filingMapper, errorMapper, validationResultCache, false, logger);
         final var filing = PscIndividualFiling.builder()
                 .build();
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
 
         final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
 
@@ -88,7 +110,7 @@ class ValidationStatusControllerImplTest {
 
     @Test
     void validateWhenFilingNotFound() {
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.empty());
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.empty());
 
         final var filingResourceNotFoundException =
                 assertThrows(FilingResourceNotFoundException.class,
@@ -108,7 +130,8 @@ class ValidationStatusControllerImplTest {
         final var filing = PscIndividualFiling.builder().links(links)
                 .build();
 
-        when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
 
         final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
         final var expectedError =
@@ -131,7 +154,13 @@ class ValidationStatusControllerImplTest {
         final PscCommunal filing = PscIndividualFiling.builder().links(links)
                 .build();
 
+        final var summary = PscFilingSummary.of(FILING_ID, filing);
+
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(validationResultCache.get(eq(FILING_ID), eq(summary), eq(PscTypeConstants.INDIVIDUAL),
+                eq(transaction), eq(PASSTHROUGH_HEADER), any())).thenAnswer(
+                i -> i.<Supplier<ValidationStatusError[]>>getArgument(5).get());
 
         final var dto = PscIndividualDto.builder().build();
         when(filingMapper.map(filing)).thenReturn(dto);
@@ -144,4 +173,102 @@ class ValidationStatusControllerImplTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void validateWhenPscTypeStored() {
+        final var self = UriComponentsBuilder.fromUriString(SELF_FRAGMENT)
+                .pathSegment("unrecognised")
+                .pathSegment(FILING_ID)
+                .build()
+                .toUri();
+        final PscCommunal filing = PscIndividualFiling.builder().links(new Links(self, null))
+                .pscType(PscTypeConstants.INDIVIDUAL)
+                .build();
+        final var summary = PscFilingSummary.of(FILING_ID, filing);
+
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(validationResultCache.get(eq(FILING_ID), eq(summary), eq(PscTypeConstants.INDIVIDUAL),
+                eq(transaction), eq(PASSTHROUGH_HEADER), any())).thenReturn(
+                new ValidationStatusError[0]);
+
+        final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+
+        assertThat(response.isValid(), is(true));
+    }
+
+    @Test
+    void validateWhenPscTypeStoredReadsIndividualFiling() {
+        final var filing = PscIndividualFiling.builder()
+                .links(new Links(URI.create(SELF_FRAGMENT + "individual/" + FILING_ID), null))
+                .pscType(PscTypeConstants.INDIVIDUAL)
+                .build();
+        final var summary = PscFilingSummary.of(FILING_ID, filing);
+
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscIndividualFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(validationResultCache.get(eq(FILING_ID), eq(summary), eq(PscTypeConstants.INDIVIDUAL),
+                eq(transaction), eq(PASSTHROUGH_HEADER), any())).thenAnswer(
+                i -> i.<Supplier<ValidationStatusError[]>>getArgument(5).get());
+        when(filingMapper.map((PscCommunal) filing)).thenReturn(PscIndividualDto.builder().build());
+        when(errorMapper.map(anyList())).thenReturn(new ValidationStatusError[0]);
+
+        final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+
+        assertThat(response.isValid(), is(true));
+        verify(pscFilingService, never()).get(FILING_ID);
+        verifyNoInteractions(pscWithIdentificationFilingService);
+    }
+
+    @Test
+    void validateWhenPscTypeStoredReadsWithIdentificationFiling() {
+        final var filing = PscWithIdentificationFiling.builder()
+                .links(new Links(URI.create(SELF_FRAGMENT + "corporate-entity/" + FILING_ID),
+                        null))
+                .pscType(PscTypeConstants.CORPORATE_ENTITY)
+                .build();
+        final var summary = PscFilingSummary.of(FILING_ID, filing);
+
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(pscWithIdentificationFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(validationResultCache.get(eq(FILING_ID), eq(summary),
+                eq(PscTypeConstants.CORPORATE_ENTITY), eq(transaction), eq(PASSTHROUGH_HEADER),
+                any())).thenAnswer(i -> i.<Supplier<ValidationStatusError[]>>getArgument(5).get());
+        when(filingMapper.map((PscCommunal) filing)).thenReturn(
+                PscWithIdentificationDto.builder().build());
+        when(errorMapper.map(anyList())).thenReturn(new ValidationStatusError[0]);
+
+        final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+
+        assertThat(response.isValid(), is(true));
+        verify(pscFilingService, never()).get(FILING_ID);
+        verifyNoInteractions(pscIndividualFilingService);
+    }
+
+    @Test
+    void validateWhenResultCached() {
+        final var self = UriComponentsBuilder.fromUriString(SELF_FRAGMENT)
+                .pathSegment(PscTypeConstants.INDIVIDUAL.getValue())
+                .pathSegment(FILING_ID)
+                .build()
+                .toUri();
+        final Links links = new Links(self, null);
+        final PscCommunal filing = PscIndividualFiling.builder().links(links)
+                .build();
+        final var cachedError =
+                new ValidationStatusError("cached", "$.ceased_on", "json-path", "ch:validation");
+
+        final var summary = PscFilingSummary.of(FILING_ID, filing);
+
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(Optional.of(summary));
+        when(validationResultCache.get(eq(FILING_ID), eq(summary), eq(PscTypeConstants.INDIVIDUAL),
+                eq(transaction), eq(PASSTHROUGH_HEADER), any())).thenReturn(
+                new ValidationStatusError[]{cachedError});
+
+        final var response = testController.validate(TRANS_ID, FILING_ID, transaction, request);
+
+        assertThat(response.isValid(), is(false));
+        assertThat(response.getValidationStatusError(), is(arrayContaining(cachedError)));
+        verify(pscFilingService, never()).get(FILING_ID);
+        verifyNoInteractions(filingValidationService, filingMapper, errorMapper);
+    }
+
+}
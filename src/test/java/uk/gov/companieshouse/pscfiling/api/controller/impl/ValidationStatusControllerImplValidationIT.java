@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,22 +30,30 @@ import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.util.UriComponentsBuilder;
 import uk.gov.companieshouse.api.model.psc.PscApi;
 import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscfiling.api.config.ValidationResultCacheProperties;
 import uk.gov.companieshouse.pscfiling.api.config.ValidatorConfig;
 import uk.gov.companieshouse.pscfiling.api.config.enumerations.PscFilingConfig;
 import uk.gov.companieshouse.pscfiling.api.error.RestExceptionHandler;
 import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
 import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscIndividualFilingService;
+import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.TransactionService;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 import uk.gov.companieshouse.pscfiling.api.service.impl.FilingValidationServiceImpl;
 
 @Tag("app")
 @SpringBootTest(classes = {
     ValidationStatusControllerImpl.class,
     FilingValidationServiceImpl.class,
+    ValidationResultCache.class,
+    ValidationResultCacheProperties.class,
+    SimpleMeterRegistry.class,
     RestExceptionHandler.class
 }, properties = {"feature.flag.transactions.closable=true"})
 @Import(PscFilingConfig.class)
@@ -62,6 +71,10 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     @MockBean
     private PscFilingService pscFilingService;
     @MockBean
+    private PscIndividualFilingService pscIndividualFilingService;
+    @MockBean
+    private PscWithIdentificationFilingService pscWithIdentificationFilingService;
+    @MockBean
     private PscDetailsService pscDetailsService;
     @MockBean
     private TransactionService transactionService;
@@ -69,6 +82,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     private Logger logger;
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private ValidationResultCache validationResultCache;
     private PscIndividualFiling filing;
     @Mock
     private PscApi pscDetails;
@@ -76,6 +91,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     @BeforeEach
     void setUp() throws Exception {
         baseSetUp();
+        // each test stubs a different outcome for the same filing
+        validationResultCache.invalidate(FILING_ID);
         final var self = UriComponentsBuilder.fromUriString(SELF_FRAGMENT)
                 .pathSegment(PscTypeConstants.INDIVIDUAL.getValue())
                 .pathSegment(FILING_ID)
@@ -94,6 +111,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     @Test
     void validateWhenDataValid() throws Exception {
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(
                 transaction);
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
@@ -113,6 +132,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     @Test
     void validateWhenPscDetailsNotFound() throws Exception {
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(
                 transaction);
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
@@ -135,10 +156,14 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     @Test
     void validateWhenPscEtagNotMatched() throws Exception {
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(
                 transaction);
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
                 PASSTHROUGH_HEADER)).thenReturn(pscDetails);
+        when(pscDetailsService.refreshPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscDetails);
         when(pscDetails.getEtag()).thenReturn("different-etag");
 
         mockMvc.perform(get(URL_VALIDATION_STATUS, TRANS_ID, FILING_ID)
@@ -157,6 +182,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     @Test
     void validateWhenCeasedOnBeforePscNotifiedOn() throws Exception {
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(
                 transaction);
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
@@ -191,6 +218,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
                         .build();
 
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(invalid));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, invalid)));
 
         mockMvc.perform(get(URL_VALIDATION_STATUS, TRANS_ID, FILING_ID)
                 .requestAttr("transaction", transaction)
@@ -208,6 +237,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
     @Test
     void validateWhenPscNotActive() throws Exception {
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(
                 transaction);
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
@@ -240,6 +271,8 @@ class ValidationStatusControllerImplValidationIT extends BaseControllerIT {
             cause); // message intentionally blank
 
         when(pscFilingService.get(FILING_ID)).thenReturn(Optional.of(filing));
+        when(pscFilingService.getSummary(FILING_ID, TRANS_ID)).thenReturn(
+                Optional.of(PscFilingSummary.of(FILING_ID, filing)));
         when(transactionService.getTransaction(TRANS_ID, PASSTHROUGH_HEADER)).thenReturn(
             transaction);
         when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
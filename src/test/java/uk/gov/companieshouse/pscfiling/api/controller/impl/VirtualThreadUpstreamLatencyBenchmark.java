@@ -0,0 +1,10 @@
+package uk.gov.companieshouse.pscfiling.api.controller.impl;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Requests run on virtual threads.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadUpstreamLatencyBenchmark extends UpstreamLatencyBenchmark {
+}
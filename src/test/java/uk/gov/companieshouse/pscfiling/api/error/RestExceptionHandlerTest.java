@@ -46,7 +46,10 @@ import uk.gov.companieshouse.api.error.ApiError;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.exception.CompanyProfileServiceException;
 import uk.gov.companieshouse.pscfiling.api.exception.ConflictingFilingException;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
 import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingUpdateConflictException;
+import uk.gov.companieshouse.pscfiling.api.exception.InvalidBulkFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidFilingException;
 import uk.gov.companieshouse.pscfiling.api.exception.InvalidPatchException;
 import uk.gov.companieshouse.pscfiling.api.exception.MergePatchException;
@@ -372,6 +375,39 @@ class RestExceptionHandlerTest {
         assertThat(apiErrors.getErrors(), contains(expectedError));
     }
 
+    @Test
+    void handleFilingUpdateConflictException() {
+        final var exception = new FilingUpdateConflictException("filing-id");
+
+        when(request.getRequest()).thenReturn(servletRequest);
+
+        final var apiErrors = testExceptionHandler.handleFilingUpdateConflictException(exception,
+                request);
+        final var expectedError = new ApiError(RestExceptionHandler.FILING_UPDATE_CONFLICT_MSG,
+                null, "resource", "ch:validation");
+
+        expectedError.addErrorValue("{filing-resource-id}", "filing-id");
+
+        assertThat(apiErrors.getErrors(), contains(expectedError));
+    }
+
+    @Test
+    void handleFilingPreconditionFailedException() {
+        final var exception = new FilingPreconditionFailedException("filing-id");
+
+        when(request.getRequest()).thenReturn(servletRequest);
+
+        final var apiErrors =
+                testExceptionHandler.handleFilingPreconditionFailedException(exception, request);
+        final var expectedError = new ApiError(
+                RestExceptionHandler.FILING_PRECONDITION_FAILED_MSG, null, "resource",
+                "ch:validation");
+
+        expectedError.addErrorValue("{filing-resource-id}", "filing-id");
+
+        assertThat(apiErrors.getErrors(), contains(expectedError));
+    }
+
     @Test
     void handleInvalidFilingException() {
         when(request.getRequest()).thenReturn(servletRequest);
@@ -385,6 +421,25 @@ class RestExceptionHandlerTest {
                 containsInAnyOrder(expectedError, expectedErrorWithRejectedValue));
     }
 
+    @Test
+    void handleInvalidBulkFilingException() {
+        when(request.getRequest()).thenReturn(servletRequest);
+        final var exception = new InvalidBulkFilingException(
+                Map.of(2, List.of(fieldErrorWithRejectedValue), 0, List.of(fieldError)));
+        final var firstItemError =
+                new ApiError("field is blank", "$[0].address_line_1", "json-path", "ch:validation");
+        final var thirdItemError =
+                new ApiError("{rejected-value} is future date", "$[2].ceased_on", "json-path",
+                        "ch:validation");
+
+        thirdItemError.addErrorValue("rejected-value", "3000-10-13");
+
+        final var apiErrors =
+                testExceptionHandler.handleInvalidBulkFilingException(exception, request);
+
+        assertThat(apiErrors.getErrors(), contains(firstItemError, thirdItemError));
+    }
+
     @Test
     void handleConflictingFilingException() {
         when(request.getRequest()).thenReturn(servletRequest);
@@ -526,6 +581,28 @@ class RestExceptionHandlerTest {
                 contains(expectedError));
     }
 
+    @Test
+    void handleMergePatchExceptionWhenLocationUnknown() {
+        when(request.getRequest()).thenReturn(servletRequest);
+
+        final var exception = new MergePatchException(unrecognizedPropertyException);
+
+        when(unrecognizedPropertyException.getPropertyName()).thenReturn("field");
+        when(unrecognizedPropertyException.getLocation()).thenReturn(JsonLocation.NA);
+        when(unrecognizedPropertyException.getPath()).thenReturn(List.of(mappingReference));
+        when(mappingReference.getFieldName()).thenReturn("field");
+
+        final var apiErrors = testExceptionHandler.handleMergePatchException(exception, request);
+
+        final var expectedError = new ApiError(
+                "Failed to merge patch request: Property is not recognised: {property-name}",
+                "$.field", "json-path", "ch:validation");
+        expectedError.addErrorValue("property-name", "field");
+
+        assertThat(((ApiErrors) Objects.requireNonNull(apiErrors.getBody())).getErrors(),
+                contains(expectedError));
+    }
+
 
     @Test
     void getMostSpecificCauseWhenPresent() {
@@ -25,4 +25,9 @@ class PscTypeConstantsTest {
     void nameOfWhenNotFound() {
         assertThat(PscTypeConstants.nameOf("banana"), is(Optional.empty()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void nameOfWhenNull() {
+        assertThat(PscTypeConstants.nameOf(null), is(Optional.empty()));
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 
 @ExtendWith(MockitoExtension.class)
 class PscIndividualFilingTest {
@@ -94,16 +95,31 @@ class PscIndividualFilingTest {
         assertThat(test.getNotifiedOn(), is(equalTo(notifiedOn)));
     }
 
+    @Test
+    void getPscType() {
+        assertThat(test.getPscType(), is(PscTypeConstants.INDIVIDUAL));
+    }
+
     @Test
     void getReferenceEtag() {
         assertThat(test.getReferenceEtag(), is(equalTo("etag")));
     }
 
+    @Test
+    void getCompanyNumber() {
+        assertThat(test.getCompanyNumber(), is(equalTo("012345678")));
+    }
+
     @Test
     void getReferencePscId() {
         assertThat(test.getReferencePscId(), is(equalTo("psc")));
     }
 
+    @Test
+    void getTransactionId() {
+        assertThat(test.getTransactionId(), is(equalTo("transaction")));
+    }
+
     @Test
     void getCeasedOn() {
         assertThat(test.getCeasedOn(), is(equalTo(ceasedOn)));
@@ -128,12 +144,13 @@ class PscIndividualFilingTest {
                         + "locality='locality', poBox='poBox', postalCode='postalCode', "
                         + "premises='premises', region='region'], "
                         + "addressSameAsRegisteredOfficeAddress=true, "
-                        + "ceasedOn=2022-11-21, "
+                        + "ceasedOn=2022-11-21, companyNumber='012345678', "
                         + "createdAt=2019-11-05T00:00:00Z, etag='etag', kind='kind', "
                         + "links=Links[self=self, validationStatus=valid], "
                         + "naturesOfControl=[type1, type2], notifiedOn=2022-11-10, "
+                        + "pscType=INDIVIDUAL, "
                         + "referenceEtag='etag', referencePscId='psc', "
-                        + "registerEntryDate=2022-11-05, "
+                        + "registerEntryDate=2022-11-05, transactionId='transaction', "
                         + "updatedAt=2022-11-05T00:00:00Z, countryOfResidence='Wales', "
                         + "dateOfBirth=Date3Tuple[day=12, month=9, year=1970], "
                         + "nameElements=NameElements[forename='forename', otherForenames='other',"
@@ -187,6 +204,7 @@ class PscIndividualFilingTest {
                 .address(address)
                 .addressSameAsRegisteredOfficeAddress(true)
                 .ceasedOn(ceasedOn)
+                .companyNumber("012345678")
                 .countryOfResidence("Wales")
                 .createdAt(createdAt)
                 .dateOfBirth(dob1)
@@ -197,6 +215,7 @@ class PscIndividualFilingTest {
                 .nationality("nationality")
                 .naturesOfControl(List.of("type1", "type2"))
                 .notifiedOn(notifiedOn)
+                .pscType(PscTypeConstants.INDIVIDUAL)
                 .referenceEtag("etag")
                 .referencePscId("psc")
                 .registerEntryDate(registerEntryDate)
@@ -204,6 +223,7 @@ class PscIndividualFilingTest {
                 .residentialAddressSameAsCorrespondenceAddress(true)
                 .statementActionDate(statementActionDate)
                 .statementType("type")
+                .transactionId("transaction")
                 .updatedAt(updatedAt)
                 .build();
 
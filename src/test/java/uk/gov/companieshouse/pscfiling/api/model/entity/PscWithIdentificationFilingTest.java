@@ -15,6 +15,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 
 class PscWithIdentificationFilingTest {
 
@@ -112,11 +113,26 @@ class PscWithIdentificationFilingTest {
         }
     }
 
+    @Test
+    void getPscType() {
+        assertThat(test.getPscType(), is(PscTypeConstants.CORPORATE_ENTITY));
+    }
+
+    @Test
+    void getCompanyNumber() {
+        assertThat(test.getCompanyNumber(), is(equalTo("012345678")));
+    }
+
     @Test
     void getReferencePscId() {
         assertThat(test.getReferencePscId(), is(equalTo("psc")));
     }
 
+    @Test
+    void getTransactionId() {
+        assertThat(test.getTransactionId(), is(equalTo("transaction")));
+    }
+
     @Test
     void getRegisterEntryDate() {
         assertThat(test.getRegisterEntryDate(), is(equalTo(registerEntryDate)));
@@ -151,11 +167,13 @@ class PscWithIdentificationFilingTest {
                         + "locality='locality', poBox='poBox', postalCode='postalCode', "
                         + "premises='premises', region='region'], "
                         + "addressSameAsRegisteredOfficeAddress=true, "
-                        + "ceasedOn=2022-11-21, createdAt=2019-11-05T00:00:00Z, etag='etag', "
+                        + "ceasedOn=2022-11-21, companyNumber='012345678', "
+                        + "createdAt=2019-11-05T00:00:00Z, etag='etag', "
                         + "kind='kind', links=Links[self=self, "
                         + "validationStatus=validationStatus], naturesOfControl=[type1, type2], "
-                        + "notifiedOn=2022-11-10, referenceEtag='etag', referencePscId='psc', "
-                        + "registerEntryDate=2022-11-05, "
+                        + "notifiedOn=2022-11-10, pscType=CORPORATE_ENTITY, referenceEtag='etag', "
+                        + "referencePscId='psc', "
+                        + "registerEntryDate=2022-11-05, transactionId='transaction', "
                         + "updatedAt=2022-11-05T00:00:00Z, name='name', "
                         + "identification='Identification[countryRegistered='theCountry', "
                         + "legalAuthority='theAuthority', legalForm='theForm', "
@@ -177,6 +195,7 @@ class PscWithIdentificationFilingTest {
                 .address(address)
                 .addressSameAsRegisteredOfficeAddress(true)
                 .ceasedOn(ceasedOn)
+                .companyNumber("012345678")
                 .createdAt(createdAt)
                 .etag("etag")
                 .kind("kind")
@@ -185,11 +204,13 @@ class PscWithIdentificationFilingTest {
                 .name(name)
                 .naturesOfControl(List.of("type1", "type2"))
                 .notifiedOn(notifiedOn)
+                .pscType(PscTypeConstants.CORPORATE_ENTITY)
                 .referenceEtag("etag")
                 .referencePscId("psc")
                 .registerEntryDate(registerEntryDate)
                 .statementActionDate(statementActionDate)
                 .statementType("type")
+                .transactionId("transaction")
                 .updatedAt(updatedAt)
                 .build();
 
@@ -0,0 +1,61 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+class FieldUpdatesTest {
+
+    @Test
+    void betweenWhenEqual() {
+        final var original = new Document("ceased_on", "2022-10-05").append("name_elements",
+                new Document("surname", "Smith"));
+        final var changed = new Document("ceased_on", "2022-10-05").append("name_elements",
+                new Document("surname", "Smith"));
+
+        final var update = FieldUpdates.between(original, changed);
+
+        assertThat(update.getUpdateObject().isEmpty(), is(true));
+    }
+
+    @Test
+    void betweenWhenNestedFieldChanged() {
+        final var original = new Document("etag", "old").append("name_elements",
+                new Document("forename", "John").append("surname", "Smith"));
+        final var changed = new Document("etag", "new").append("name_elements",
+                new Document("forename", "John").append("surname", "Jones"));
+
+        final var update = FieldUpdates.between(original, changed);
+
+        assertThat(update.getUpdateObject(), is(new Document("$set",
+                new Document("etag", "new").append("name_elements.surname", "Jones"))));
+    }
+
+    @Test
+    void betweenWhenFieldsAddedAndRemoved() {
+        final var original = new Document("ceased_on", "2022-10-05").append("address",
+                new Document("premises", "1").append("locality", "Cardiff"));
+        final var changed = new Document("address", new Document("premises", "1")).append(
+                "natures_of_control", List.of("type1"));
+
+        final var update = FieldUpdates.between(original, changed);
+
+        assertThat(update.getUpdateObject(), is(new Document("$set",
+                new Document("natures_of_control", List.of("type1"))).append("$unset",
+                new Document("address.locality", 1).append("ceased_on", 1))));
+    }
+
+    @Test
+    void betweenWhenArrayChanged() {
+        final var original = new Document("natures_of_control", List.of("type1", "type2"));
+        final var changed = new Document("natures_of_control", List.of("type2"));
+
+        final var update = FieldUpdates.between(original, changed);
+
+        assertThat(update.getUpdateObject(), is(new Document("$set",
+                new Document("natures_of_control", List.of("type2")))));
+    }
+}
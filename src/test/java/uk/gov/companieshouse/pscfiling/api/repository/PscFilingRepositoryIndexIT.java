@@ -0,0 +1,240 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.pscfiling.api.config.MongoCodecConfig;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+/**
+ * Runs the finders against MongoDB, checking with explain plans that the transaction, company and
+ * PSC finders use their indexes rather than scanning the collection. The query explained is the
+ * find command the repository sent, as recorded by a command listener.
+ * <p>
+ * The filings are inserted with the filing codecs, so the finders also check that the mapping
+ * converter reads what the codecs write.
+ * </p>
+ */
+@Tag("app")
+@Testcontainers(disabledWithoutDocker = true)
+@DataMongoTest(properties = {"spring.data.mongodb.auto-index-creation=true",
+        "spring.data.mongodb.field-naming-strategy="
+                + "org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy"})
+@Import({MongoCodecConfig.class, PscFilingRepositoryIndexIT.FindCommandsConfig.class})
+class PscFilingRepositoryIndexIT {
+    private static final String COLLECTION = "psc_submissions";
+    private static final String TRANS_ID = "117524-754816-491724";
+    private static final String COMPANY_NUMBER = "012345678";
+    private static final String PSC_ID = "1kdaTltWeaP1EB70SSD9SLmiK5Y";
+    private static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    private static final String SELF_PREFIX =
+            "/transactions/" + TRANS_ID + "/persons-with-significant-control/";
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private PscFilingRepository filingRepository;
+    @Autowired
+    private PscIndividualFilingRepository individualFilingRepository;
+    @Autowired
+    private PscWithIdentificationFilingRepository withIdentificationFilingRepository;
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private FindCommands findCommands;
+
+    @BeforeEach
+    void setUp() {
+        filingRepository.deleteAll();
+        // enough other filings that a collection scan would be a candidate plan
+        individualFilingRepository.insert(IntStream.range(0, 100)
+                .mapToObj(i -> PscIndividualFiling.builder()
+                        .id(new ObjectId().toHexString())
+                        .transactionId("transaction-" + i)
+                        .companyNumber("company-" + i % 10)
+                        .referencePscId("psc-" + i)
+                        .build())
+                .toList());
+        individualFilingRepository.insert(PscIndividualFiling.builder()
+                .id(FILING_ID)
+                .pscType(PscTypeConstants.INDIVIDUAL)
+                .transactionId(TRANS_ID)
+                .companyNumber(COMPANY_NUMBER)
+                .referencePscId(PSC_ID)
+                .etag("etag")
+                .links(new Links(URI.create(SELF_PREFIX + "individual/" + FILING_ID), null))
+                .build());
+        withIdentificationFilingRepository.insert(PscWithIdentificationFiling.builder()
+                .id(new ObjectId().toHexString())
+                .transactionId(TRANS_ID)
+                .companyNumber(COMPANY_NUMBER)
+                .referencePscId("corporate-psc")
+                .build());
+        findCommands.clear();
+    }
+
+    @Test
+    void findByTransactionIdUsesIndex() {
+        final var filings = filingRepository.findByTransactionId(TRANS_ID);
+
+        assertThat(filings, hasSize(2));
+        assertThat(filings.stream().map(PscCommunal::getTransactionId).toList(),
+                everyItem(is(TRANS_ID)));
+        assertIndexScan("transaction_id");
+    }
+
+    @Test
+    void findByCompanyNumberUsesIndex() {
+        final var filings = filingRepository.findByCompanyNumber(COMPANY_NUMBER);
+
+        assertThat(filings, hasSize(2));
+        assertIndexScan("company_number");
+    }
+
+    @Test
+    void findByReferencePscIdUsesIndex() {
+        final var filings = filingRepository.findByReferencePscId(PSC_ID);
+
+        assertThat(filings, hasSize(1));
+        assertThat(filings.get(0).getReferencePscId(), is(PSC_ID));
+        assertIndexScan("reference_psc_id");
+    }
+
+    @Test
+    void findSummaryByIdAndSelfLinkWhenMatched() {
+        final var summary = filingRepository.findSummaryByIdAndSelfLink(FILING_ID,
+                "^" + Pattern.quote(SELF_PREFIX)).orElseThrow();
+
+        assertThat(summary.id(), is(FILING_ID));
+        assertThat(summary.etag(), is("etag"));
+        assertThat(summary.pscType(), is(PscTypeConstants.INDIVIDUAL));
+        assertThat(summary.referencePscId(), is(PSC_ID));
+        assertThat(summary.links().self().toString(), is(SELF_PREFIX + "individual/" + FILING_ID));
+        assertThat(summary.links().validationStatus(), is(nullValue()));
+    }
+
+    @Test
+    void findSummaryByIdAndSelfLinkWhenNotMatched() {
+        final var summary = filingRepository.findSummaryByIdAndSelfLink(FILING_ID,
+                "^" + Pattern.quote("/transactions/other/"));
+
+        assertThat(summary.isPresent(), is(false));
+    }
+
+    @Test
+    void findByIdWithCodecReadsAsConverter() {
+        final var filing = individualFilingRepository.findById(FILING_ID).orElseThrow();
+
+        assertThat(filing, is(filingRepository.findById(FILING_ID).orElseThrow()));
+        assertThat(filing.getPscType(), is(PscTypeConstants.INDIVIDUAL));
+        assertThat(mongoTemplate.getCollection(COLLECTION)
+                .countDocuments(new Document("_id", new ObjectId(FILING_ID))), is(1L));
+    }
+
+    private void assertIndexScan(final String field) {
+        final var find = findCommands.last();
+
+        assertThat(find.getString("find"), is(COLLECTION));
+        assertThat(find.get("filter", Document.class).keySet(), contains(field));
+
+        final var explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                new Document("find", COLLECTION).append("filter", find.get("filter"))));
+        final var stages = new ArrayList<Document>();
+
+        collectStages(explain.get("queryPlanner", Document.class).get("winningPlan"), stages);
+
+        assertThat(stages, is(not(empty())));
+        assertThat(stages.stream().map(s -> s.getString("stage")).toList(),
+                not(hasItem("COLLSCAN")));
+        assertThat(stages.stream()
+                .filter(s -> "IXSCAN".equals(s.getString("stage")))
+                .map(s -> s.get("keyPattern", Document.class).keySet())
+                .toList(), hasItem(hasItem(field)));
+    }
+
+    private static void collectStages(final Object plan, final List<Document> stages) {
+        if (plan instanceof Document document) {
+            if (document.get("stage") instanceof String) {
+                stages.add(document);
+            }
+            document.values().forEach(v -> collectStages(v, stages));
+        }
+        else if (plan instanceof List<?> list) {
+            list.forEach(v -> collectStages(v, stages));
+        }
+    }
+
+    /**
+     * Records the find commands sent to MongoDB.
+     */
+    static class FindCommands implements CommandListener {
+        private final List<Document> started = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(final CommandStartedEvent event) {
+            if ("find".equals(event.getCommandName())) {
+                started.add(Document.parse(event.getCommand().toJson()));
+            }
+        }
+
+        Document last() {
+            assertThat(started, is(not(empty())));
+            return started.get(started.size() - 1);
+        }
+
+        void clear() {
+            started.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class FindCommandsConfig {
+        @Bean
+        FindCommands findCommands() {
+            return new FindCommands();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer findCommandsCustomizer(
+                final FindCommands findCommands) {
+            return settings -> settings.addCommandListener(findCommands);
+        }
+    }
+}
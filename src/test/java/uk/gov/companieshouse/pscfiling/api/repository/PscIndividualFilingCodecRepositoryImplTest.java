@@ -0,0 +1,163 @@
+package uk.gov.companieshouse.pscfiling.api.repository;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.CollectionCallback;
+import org.springframework.data.mongodb.core.MongoOperations;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+
+@ExtendWith(MockitoExtension.class)
+class PscIndividualFilingCodecRepositoryImplTest {
+    private static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private MongoCollection<Document> collection;
+    @Mock
+    private MongoCollection<PscIndividualFiling> filingCollection;
+    @Mock
+    private FindIterable<PscIndividualFiling> findIterable;
+
+    private PscIndividualFilingCodecRepositoryImpl testRepository;
+    private PscIndividualFiling filing;
+
+    @BeforeEach
+    void setUp() {
+        testRepository = new PscIndividualFilingCodecRepositoryImpl(mongoOperations);
+        filing = PscIndividualFiling.builder().id(FILING_ID).etag("etag").build();
+    }
+
+    @Test
+    void findById() {
+        givenFilingCollection();
+        when(filingCollection.find(Filters.eq(new ObjectId(FILING_ID)))).thenReturn(findIterable);
+        when(findIterable.first()).thenReturn(filing);
+
+        assertThat(testRepository.findById(FILING_ID), is(Optional.of(filing)));
+    }
+
+    @Test
+    void findByIdWhenNotFound() {
+        givenFilingCollection();
+        when(filingCollection.find(Filters.eq(new ObjectId(FILING_ID)))).thenReturn(findIterable);
+
+        assertThat(testRepository.findById(FILING_ID), is(Optional.empty()));
+    }
+
+    @Test
+    void insert() {
+        givenFilingCollection();
+
+        assertThat(testRepository.insert(filing), is(sameInstance(filing)));
+        verify(filingCollection).insertOne(filing);
+        verify(mongoOperations, never()).insert(filing);
+    }
+
+    @Test
+    void insertWhenEtagNull() {
+        final var inserted = ArgumentCaptor.forClass(PscIndividualFiling.class);
+        givenFilingCollection();
+
+        final var result = testRepository.insert(PscIndividualFiling.builder().id(FILING_ID)
+                .build());
+
+        verify(filingCollection).insertOne(inserted.capture());
+        assertThat(result, is(sameInstance(inserted.getValue())));
+        assertThat(result.getId(), is(FILING_ID));
+        assertThat(result.getEtag(), is(notNullValue()));
+    }
+
+    @Test
+    void insertWhenIdNull() {
+        final var unidentified = PscIndividualFiling.builder().etag("etag").build();
+        when(mongoOperations.insert(unidentified)).thenReturn(filing);
+
+        assertThat(testRepository.insert(unidentified), is(sameInstance(filing)));
+    }
+
+    @Test
+    void insertBatch() {
+        final var filings = List.of(filing, PscIndividualFiling.builder(filing)
+                .id(new ObjectId().toHexString())
+                .build());
+        givenFilingCollection();
+
+        assertThat(testRepository.insert(filings), is(filings));
+        verify(filingCollection).insertMany(filings);
+    }
+
+    @Test
+    void insertBatchWhenEtagNull() {
+        final var filings = List.of(filing, PscIndividualFiling.builder().id(FILING_ID).build());
+        givenFilingCollection();
+
+        final var result = testRepository.insert(filings);
+
+        assertThat(result.get(0), is(sameInstance(filing)));
+        assertThat(result.get(1).getEtag(), is(notNullValue()));
+        verify(filingCollection).insertMany(result);
+    }
+
+    @Test
+    void insertBatchWhenEmpty() {
+        assertThat(testRepository.insert(List.of()), is(List.of()));
+        verifyNoInteractions(mongoOperations);
+    }
+
+    @Test
+    void insertBatchWhenIdNull() {
+        final var filings = List.of(filing, PscIndividualFiling.builder().etag("etag").build());
+        when(mongoOperations.insert(filings, PscIndividualFiling.class)).thenReturn(filings);
+
+        assertThat(testRepository.insert(filings), is(filings));
+    }
+
+    @Test
+    void save() {
+        givenFilingCollection();
+
+        assertThat(testRepository.save(filing), is(sameInstance(filing)));
+        verify(filingCollection).replaceOne(eq(Filters.eq(new ObjectId(FILING_ID))), eq(filing),
+                any(ReplaceOptions.class));
+    }
+
+    @Test
+    void saveWhenIdNull() {
+        final var unidentified = PscIndividualFiling.builder().etag("etag").build();
+        when(mongoOperations.save(unidentified)).thenReturn(filing);
+
+        assertThat(testRepository.save(unidentified), is(sameInstance(filing)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenFilingCollection() {
+        when(mongoOperations.execute(eq(PscIndividualFiling.class), any(CollectionCallback.class)))
+                .thenAnswer(i -> i.<CollectionCallback<?>>getArgument(1)
+                        .doInCollection(collection));
+        when(collection.withDocumentClass(PscIndividualFiling.class)).thenReturn(filingCollection);
+    }
+}
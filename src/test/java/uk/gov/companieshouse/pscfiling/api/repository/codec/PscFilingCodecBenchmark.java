@@ -0,0 +1,112 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+
+/**
+ * JMH benchmark of encoding and decoding an individual PSC filing with its codec against the
+ * mapping converter, each to and from the BSON bytes sent to and read from MongoDB.
+ * <p>
+ * The converter path includes the intermediate {@link Document} it writes to and reads from.
+ * </p>
+ * Run with {@code -Dbenchmark=true}; the JMH results are printed with the test output.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PscFilingCodecBenchmark {
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private Codec<PscIndividualFiling> filingCodec;
+    private Codec<Document> documentCodec;
+    private MappingMongoConverter converter;
+    private PscIndividualFiling filing;
+    private byte[] bson;
+
+    @Setup
+    public void setUp() {
+        final var registry = PscFilingCodecFixtures.codecRegistry();
+
+        filingCodec = registry.get(PscIndividualFiling.class);
+        documentCodec = registry.get(Document.class);
+        converter = PscFilingCodecFixtures.mappingConverter();
+        filing = PscFilingCodecFixtures.individualFiling();
+        bson = codecEncode();
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        final var buffer = new BasicOutputBuffer();
+
+        filingCodec.encode(new BsonBinaryWriter(buffer), filing, ENCODER_CONTEXT);
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] converterEncode() {
+        final var buffer = new BasicOutputBuffer();
+        final var document = new Document();
+
+        converter.write(filing, document);
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, ENCODER_CONTEXT);
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public PscIndividualFiling codecDecode() {
+        return filingCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DECODER_CONTEXT);
+    }
+
+    @Benchmark
+    public PscIndividualFiling converterDecode() {
+        final var document =
+                documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DECODER_CONTEXT);
+
+        return converter.read(PscIndividualFiling.class, document);
+    }
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        final var results = new Runner(new OptionsBuilder()
+                .include(PscFilingCodecBenchmark.class.getName())
+                .build()).run();
+
+        assertThat(results, is(not(empty())));
+    }
+}
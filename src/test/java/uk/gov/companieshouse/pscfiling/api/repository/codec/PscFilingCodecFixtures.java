@@ -0,0 +1,143 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import com.mongodb.MongoClientSettings;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Address;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Date3Tuple;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Identification;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.NameElements;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+/**
+ * Fully populated filings, and the codec registry and mapping converter as the application
+ * configures them, shared by the codec tests and benchmark.
+ */
+final class PscFilingCodecFixtures {
+    static final String FILING_ID = "6332aa6ed28ad2333c3a520a";
+    static final String SELF =
+            "/transactions/117524-754816-491724/persons-with-significant-control/";
+
+    private PscFilingCodecFixtures() {
+    }
+
+    static CodecRegistry codecRegistry() {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromProviders(new PscFilingCodecProvider()),
+                MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    /**
+     * @return the mapping converter as configured by Spring Boot with the snake case field
+     *         naming strategy
+     */
+    static MappingMongoConverter mappingConverter() {
+        final var conversions = new MongoCustomConversions(List.of());
+        final var mappingContext = new MongoMappingContext();
+
+        mappingContext.setFieldNamingStrategy(new SnakeCaseFieldNamingStrategy());
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        final var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE,
+                mappingContext);
+
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    static PscIndividualFiling individualFiling() {
+        return PscIndividualFiling.builder()
+                .id(FILING_ID)
+                .address(address("1"))
+                .addressSameAsRegisteredOfficeAddress(true)
+                .ceasedOn(LocalDate.of(2022, 11, 21))
+                .companyNumber("012345678")
+                .countryOfResidence("United Kingdom")
+                .createdAt(Instant.parse("2022-11-05T10:15:30.123Z"))
+                .dateOfBirth(new Date3Tuple(5, 11, 1970))
+                .etag("etag")
+                .kind("psc-filing#cessation")
+                .links(new Links(URI.create(SELF + "individual/" + FILING_ID),
+                        URI.create(SELF + "individual/" + FILING_ID + "/validation_status")))
+                .nameElements(NameElements.builder()
+                        .title("Mr")
+                        .forename("Joe")
+                        .otherForenames("Tom")
+                        .surname("Bloggs")
+                        .build())
+                .nationality("British")
+                .naturesOfControl(List.of("type1", "type2"))
+                .notifiedOn(LocalDate.of(2022, 11, 10))
+                .pscType(PscTypeConstants.INDIVIDUAL)
+                .referenceEtag("reference-etag")
+                .referencePscId("1kdaTltWeaP1EB70SSD9SLmiK5Y")
+                .registerEntryDate(LocalDate.of(2022, 11, 5))
+                .residentialAddress(address("2"))
+                .residentialAddressSameAsCorrespondenceAddress(false)
+                .statementActionDate(LocalDate.of(2022, 10, 31))
+                .statementType("type")
+                .transactionId("117524-754816-491724")
+                .updatedAt(Instant.parse("2022-11-06T08:45:00.456Z"))
+                .build();
+    }
+
+    static PscWithIdentificationFiling withIdentificationFiling() {
+        return PscWithIdentificationFiling.builder()
+                .id(FILING_ID)
+                .address(address("1"))
+                .addressSameAsRegisteredOfficeAddress(false)
+                .ceasedOn(LocalDate.of(2022, 11, 21))
+                .companyNumber("012345678")
+                .createdAt(Instant.parse("2022-11-05T10:15:30.123Z"))
+                .etag("etag")
+                .identification(Identification.builder()
+                        .countryRegistered("England")
+                        .legalAuthority("Companies Act 2006")
+                        .legalForm("Limited")
+                        .placeRegistered("Cardiff")
+                        .registrationNumber("12345678")
+                        .build())
+                .kind("psc-filing#cessation")
+                .links(new Links(URI.create(SELF + "corporate-entity/" + FILING_ID), null))
+                .name("Corporate PSC Ltd")
+                .naturesOfControl(List.of("type1"))
+                .notifiedOn(LocalDate.of(2022, 11, 10))
+                .pscType(PscTypeConstants.CORPORATE_ENTITY)
+                .referenceEtag("reference-etag")
+                .referencePscId("corporate-psc")
+                .registerEntryDate(LocalDate.of(2022, 11, 5))
+                .statementActionDate(LocalDate.of(2022, 10, 31))
+                .statementType("type")
+                .transactionId("117524-754816-491724")
+                .updatedAt(Instant.parse("2022-11-06T08:45:00.456Z"))
+                .build();
+    }
+
+    private static Address address(final String premises) {
+        return Address.builder()
+                .addressLine1("line1")
+                .addressLine2("line2")
+                .careOf("careOf")
+                .country("country")
+                .locality("locality")
+                .poBox("poBox")
+                .postalCode("AB1 2CD")
+                .premises(premises)
+                .region("region")
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package uk.gov.companieshouse.pscfiling.api.repository.codec;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.PscFilingCodecFixtures.FILING_ID;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.PscFilingCodecFixtures.individualFiling;
+import static uk.gov.companieshouse.pscfiling.api.repository.codec.PscFilingCodecFixtures.withIdentificationFiling;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+/**
+ * Checks the filing codecs against the mapping converter: each must write the same document for
+ * a filing, and read the same filing from a document.
+ */
+class PscFilingCodecTest {
+    private CodecRegistry registry;
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        registry = PscFilingCodecFixtures.codecRegistry();
+        converter = PscFilingCodecFixtures.mappingConverter();
+    }
+
+    @Test
+    void encodeIndividualFiling() {
+        final var filing = individualFiling();
+
+        assertThat(encode(filing, PscIndividualFiling.class), is(converterWrite(filing)));
+    }
+
+    @Test
+    void encodeWithIdentificationFiling() {
+        final var filing = withIdentificationFiling();
+
+        assertThat(encode(filing, PscWithIdentificationFiling.class), is(converterWrite(filing)));
+    }
+
+    @Test
+    void encodeWhenOnlyId() {
+        final var filing = PscIndividualFiling.builder().id(FILING_ID).build();
+
+        assertThat(encode(filing, PscIndividualFiling.class), is(converterWrite(filing)));
+    }
+
+    @Test
+    void encodeWhenIdNotObjectId() {
+        final var filing = PscWithIdentificationFiling.builder().id("id").etag("etag").build();
+        final var document = encode(filing, PscWithIdentificationFiling.class);
+
+        assertThat(document, is(converterWrite(filing)));
+        assertThat(document.getString("_id").getValue(), is("id"));
+    }
+
+    @Test
+    void decodeIndividualFiling() {
+        final var filing = individualFiling();
+        final var document = converterWrite(filing);
+
+        assertThat(decode(document, PscIndividualFiling.class),
+                is(converter.read(PscIndividualFiling.class, toDocument(document))));
+        assertThat(decode(document, PscIndividualFiling.class), is(filing));
+    }
+
+    @Test
+    void decodeWithIdentificationFiling() {
+        final var filing = withIdentificationFiling();
+        final var document = converterWrite(filing);
+
+        assertThat(decode(document, PscWithIdentificationFiling.class),
+                is(converter.read(PscWithIdentificationFiling.class, toDocument(document))));
+        assertThat(decode(document, PscWithIdentificationFiling.class), is(filing));
+    }
+
+    @Test
+    void decodeWhenEncoded() {
+        final var filing = individualFiling();
+
+        assertThat(decode(encode(filing, PscIndividualFiling.class), PscIndividualFiling.class),
+                is(filing));
+    }
+
+    @Test
+    void decodeWhenFieldsNullOrUnknown() {
+        final var document = new BsonDocument("_id", new BsonObjectId(new ObjectId(FILING_ID)))
+                .append("etag", BsonNull.VALUE)
+                .append("name_elements", BsonNull.VALUE)
+                .append("legacy_field", new BsonDocument("value", new BsonString("value")))
+                .append("_class", new BsonString(PscIndividualFiling.class.getName()));
+
+        assertThat(decode(document, PscIndividualFiling.class),
+                is(PscIndividualFiling.builder().id(FILING_ID).build()));
+    }
+
+    @Test
+    void encodeAndDecodeEveryIndividualFilingProperty() {
+        assertEveryPropertyEncodedAndDecoded(individualFiling(), PscIndividualFiling.class);
+    }
+
+    @Test
+    void encodeAndDecodeEveryWithIdentificationFilingProperty() {
+        assertEveryPropertyEncodedAndDecoded(withIdentificationFiling(),
+                PscWithIdentificationFiling.class);
+    }
+
+    @Test
+    void getCodecWhenOtherType() {
+        assertThat(new PscFilingCodecProvider().get(String.class, registry), is(nullValue()));
+    }
+
+    /**
+     * Fails for any property the mapping context persists for the filing type, including those
+     * inherited from {@code PscCommon}, that the codec does not write to its field or read back.
+     * The fixture must set every property, so that a new one cannot be missed by leaving it null.
+     */
+    private <T> void assertEveryPropertyEncodedAndDecoded(final T filing, final Class<T> type) {
+        final var entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        final var document = encode(filing, type);
+        final var decoded = decode(document, type);
+        final var filingAccessor = entity.getPropertyAccessor(filing);
+        final var decodedAccessor = entity.getPropertyAccessor(decoded);
+
+        entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+            final var field = property.getFieldName();
+            final var value = filingAccessor.getProperty(property);
+
+            assertThat("fixture sets " + property.getName(), value, is(notNullValue()));
+            assertThat("codec encodes " + field, document.containsKey(field), is(true));
+            assertThat("codec decodes " + property.getName(),
+                    decodedAccessor.getProperty(property), is(value));
+        });
+    }
+
+    private <T> BsonDocument encode(final T filing, final Class<T> type) {
+        final var document = new BsonDocument();
+
+        registry.get(type)
+                .encode(new BsonDocumentWriter(document), filing, EncoderContext.builder().build());
+        return document;
+    }
+
+    private <T> T decode(final BsonDocument document, final Class<T> type) {
+        return registry.get(type)
+                .decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private BsonDocument converterWrite(final Object filing) {
+        final var document = new Document();
+
+        converter.write(filing, document);
+        return document.toBsonDocument(BsonDocument.class, registry);
+    }
+
+    private Document toDocument(final BsonDocument document) {
+        return registry.get(Document.class)
+                .decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.companieshouse.pscfiling.api.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import uk.gov.companieshouse.pscfiling.api.config.FilingDataConfig;
+import uk.gov.companieshouse.pscfiling.api.model.FilingKind;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.dto.IndividualFilingDataDto;
+import uk.gov.companieshouse.pscfiling.api.model.dto.WithIdentificationFilingDataDto;
+
+class FilingDescriptionRendererTest {
+    private static final String PSC07_DESCRIPTION =
+            "(PSC07) Notice of ceasing to be a Person of Significant Control for {0} on {1}";
+    private static final String CEASED_ON = "2022-10-05";
+
+    private FilingDescriptionRenderer testRenderer;
+
+    @BeforeEach
+    void setUp() {
+        final var filingDataConfig = new FilingDataConfig();
+
+        filingDataConfig.setPsc07Description(PSC07_DESCRIPTION);
+        testRenderer = new FilingDescriptionRenderer(filingDataConfig);
+    }
+
+    @Test
+    void renderIndividualCessation() {
+        final var filingData = IndividualFilingDataDto.builder()
+                .title("MR")
+                .firstName("JOE")
+                .lastName("BLOGGS")
+                .ceasedOn(CEASED_ON)
+                .build();
+
+        final var description = testRenderer.render(FilingKind.PSC_CESSATION,
+                PscTypeConstants.INDIVIDUAL, filingData);
+
+        assertThat(description, is("(PSC07) Notice of ceasing to be a Person of Significant "
+                + "Control for MR JOE BLOGGS on 5 October 2022"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PscTypeConstants.class, names = {"CORPORATE_ENTITY", "LEGAL_PERSON"})
+    void renderWithIdentificationCessation(final PscTypeConstants pscType) {
+        final var filingData = WithIdentificationFilingDataDto.builder()
+                .name("entity name")
+                .ceasedOn(CEASED_ON)
+                .build();
+
+        final var description = testRenderer.render(FilingKind.PSC_CESSATION, pscType,
+                filingData);
+
+        assertThat(description, is("(PSC07) Notice of ceasing to be a Person of Significant "
+                + "Control for entity name on 5 October 2022"));
+    }
+
+    @Test
+    void renderWhenNoTemplateForKind() {
+        final var filingData = IndividualFilingDataDto.builder().ceasedOn(CEASED_ON).build();
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> testRenderer.render(null, PscTypeConstants.INDIVIDUAL, filingData));
+    }
+}
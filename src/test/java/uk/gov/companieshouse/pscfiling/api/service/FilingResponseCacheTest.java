@@ -0,0 +1,101 @@
+package uk.gov.companieshouse.pscfiling.api.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.pscfiling.api.config.FilingResponseCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+
+@ExtendWith(MockitoExtension.class)
+class FilingResponseCacheTest {
+    private static final String FILING_ID = "632c8e65105b1b4a9f0d1f5e";
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private FilingResponseCache testCache;
+    private AtomicInteger writes;
+
+    @BeforeEach
+    void setUp() {
+        testCache = new FilingResponseCache(objectMapper, new FilingResponseCacheProperties(),
+                new SimpleMeterRegistry());
+        writes = new AtomicInteger();
+    }
+
+    @Test
+    void getWhenUnchanged() throws JsonProcessingException {
+        stubWrite();
+        final var filing = filing("etag");
+
+        final var first = testCache.get(FILING_ID, filing);
+        final var second = testCache.get(FILING_ID, filing);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(writes.get(), is(1));
+    }
+
+    @Test
+    void getWhenEtagChanged() throws JsonProcessingException {
+        stubWrite();
+
+        testCache.get(FILING_ID, filing("etag"));
+        final var json = testCache.get(FILING_ID, filing("patched"));
+
+        assertThat(new String(json, StandardCharsets.UTF_8), is("json 2"));
+        assertThat(writes.get(), is(2));
+    }
+
+    @Test
+    void getWhenInvalidated() throws JsonProcessingException {
+        stubWrite();
+        final var filing = filing("etag");
+
+        testCache.get(FILING_ID, filing);
+        testCache.invalidate(FILING_ID);
+        testCache.get(FILING_ID, filing);
+
+        verify(objectMapper, times(2)).writeValueAsBytes(filing);
+    }
+
+    @Test
+    void getWhenWriteFails() throws JsonProcessingException {
+        final var filing = filing("etag");
+        final var cause = new JsonProcessingException("write failed") {
+        };
+
+        when(objectMapper.writeValueAsBytes(filing)).thenThrow(cause);
+
+        final var thrown = assertThrows(UncheckedIOException.class,
+                () -> testCache.get(FILING_ID, filing));
+
+        assertThat(thrown.getCause(), is(sameInstance(cause)));
+    }
+
+    private void stubWrite() throws JsonProcessingException {
+        when(objectMapper.writeValueAsBytes(any(PscCommunal.class))).thenAnswer(
+                i -> ("json " + writes.incrementAndGet()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PscIndividualFiling filing(final String etag) {
+        return PscIndividualFiling.builder().id(FILING_ID).etag(etag).build();
+    }
+}
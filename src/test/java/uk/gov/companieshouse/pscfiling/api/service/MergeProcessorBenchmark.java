@@ -0,0 +1,130 @@
+package uk.gov.companieshouse.pscfiling.api.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import uk.gov.companieshouse.pscfiling.api.config.AppConfig;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Identification;
+import uk.gov.companieshouse.pscfiling.api.model.entity.NameElements;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
+
+/**
+ * JMH benchmark of applying a merge patch to a filing with the merge processors, which read the
+ * patch from the tree the request body is bound to, against the JSON string they used to write
+ * and parse again.
+ * <p>
+ * The GC profiler reports the bytes allocated per merge ({@code gc.alloc.rate.norm}) alongside
+ * the time taken.
+ * </p>
+ * Run with {@code -Dbenchmark=true}; the JMH results are printed with the test output.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeProcessorBenchmark {
+    private static final JsonNode MERGE_PATCH = JsonNodeFactory.instance.objectNode()
+            .put("reference_etag", "e7101610f832de81c8d2f27904d6b1de2be82ff6")
+            .put("reference_psc_id", "1kdaTltWeaP1EB70SSD9SLmiK5Y")
+            .put("ceased_on", "2022-09-13")
+            .put("register_entry_date", "2022-09-14");
+
+    private ObjectMapper patchObjectMapper;
+    private PscIndividualFilingMergeProcessor individualProcessor;
+    private PscWithIdentificationFilingMergeProcessor withIdentificationProcessor;
+    private PscIndividualFiling individualFiling;
+    private PscWithIdentificationFiling withIdentificationFiling;
+
+    @Setup
+    public void setUp() {
+        patchObjectMapper = new AppConfig().patchObjectMapper();
+        individualProcessor = new PscIndividualFilingMergeProcessor(patchObjectMapper);
+        withIdentificationProcessor =
+                new PscWithIdentificationFilingMergeProcessor(patchObjectMapper);
+        individualFiling = PscIndividualFiling.builder()
+                .referenceEtag("etag")
+                .referencePscId("psc")
+                .ceasedOn(LocalDate.of(2022, 9, 1))
+                .nameElements(NameElements.builder()
+                        .forename("Joe")
+                        .surname("Bloggs")
+                        .build())
+                .build();
+        withIdentificationFiling = PscWithIdentificationFiling.builder()
+                .referenceEtag("etag")
+                .referencePscId("psc")
+                .ceasedOn(LocalDate.of(2022, 9, 1))
+                .name("Mr Joe Bloggs Ltd")
+                .identification(Identification.builder()
+                        .legalForm("Limited")
+                        .registrationNumber("12345678")
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public PscIndividualFiling individualTree() throws IOException {
+        return individualProcessor.mergeEntity(individualFiling, MERGE_PATCH);
+    }
+
+    @Benchmark
+    public PscIndividualFiling individualString() throws IOException {
+        return mergeFromString(individualFiling);
+    }
+
+    @Benchmark
+    public PscWithIdentificationFiling withIdentificationTree() throws IOException {
+        return withIdentificationProcessor.mergeEntity(withIdentificationFiling, MERGE_PATCH);
+    }
+
+    @Benchmark
+    public PscWithIdentificationFiling withIdentificationString() throws IOException {
+        return mergeFromString(withIdentificationFiling);
+    }
+
+    private <T> T mergeFromString(final T target) throws IOException {
+        final var json = patchObjectMapper.writeValueAsString(MERGE_PATCH);
+
+        return patchObjectMapper.readerForUpdating(target).readValue(json);
+    }
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        final var results = new Runner(new OptionsBuilder()
+                .include(MergeProcessorBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        assertThat(results, is(not(empty())));
+    }
+}
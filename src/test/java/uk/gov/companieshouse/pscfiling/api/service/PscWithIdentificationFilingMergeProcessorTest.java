@@ -1,11 +1,15 @@
 package uk.gov.companieshouse.pscfiling.api.service;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import java.io.IOException;
-import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,14 +33,28 @@ class PscWithIdentificationFilingMergeProcessorTest {
     @Test
     void mergeEntity() throws IOException {
 
-        final Map<String, Object> patchMap = Map.of("key", "value");
         final PscWithIdentificationFiling target = PscWithIdentificationFiling.builder()
                 .build();
-        when(patchObjectMapper.writeValueAsString(patchMap)).thenReturn("json");
+        final JsonNode mergePatch = JsonNodeFactory.instance.objectNode().put("key", "value");
 
-        testProcessor.mergeEntity(target, patchMap);
+        testProcessor.mergeEntity(target, mergePatch);
+
+        verify(patchObjectMapper.readerForUpdating(target)).readValue(mergePatch);
+        verify(patchObjectMapper, never()).writeValueAsString(any());
+    }
+
+    @Test
+    void mergeEntityWhenPatchCannotBeApplied() throws IOException {
+
+        final PscWithIdentificationFiling target = PscWithIdentificationFiling.builder()
+                .build();
+        final JsonNode mergePatch = JsonNodeFactory.instance.objectNode().put("key", "value");
+        when(patchObjectMapper.readerForUpdating(target).readValue(mergePatch)).thenThrow(
+                new JsonMappingException(null, "invalid"));
+        when(patchObjectMapper.writeValueAsString(mergePatch)).thenReturn("json");
+
+        testProcessor.mergeEntity(target, mergePatch);
 
-        verify(patchObjectMapper).writeValueAsString(patchMap);
         verify(patchObjectMapper.readerForUpdating(target)).readValue("json");
     }
-}
\ No newline at end of file
+}
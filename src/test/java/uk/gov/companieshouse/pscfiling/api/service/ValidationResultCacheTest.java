@@ -0,0 +1,124 @@
+package uk.gov.companieshouse.pscfiling.api.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.psc.PscApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.pscfiling.api.config.ValidationResultCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationResultCacheTest {
+    private static final String FILING_ID = "632c8e65105b1b4a9f0d1f5e";
+    private static final String PSC_ID = "1kdaTltWeaP1EB70SSD9SLmiK5Y";
+    private static final String PASSTHROUGH_HEADER = "passthrough";
+    private static final PscTypeConstants PSC_TYPE = PscTypeConstants.INDIVIDUAL;
+
+    @Mock
+    private PscDetailsService pscDetailsService;
+    @Mock
+    private Transaction transaction;
+    @Mock
+    private PscApi pscDetails;
+
+    private ValidationResultCache testCache;
+    private PscFilingSummary filing;
+    private AtomicInteger validations;
+    private Supplier<ValidationStatusError[]> validation;
+
+    @BeforeEach
+    void setUp() {
+        testCache = new ValidationResultCache(pscDetailsService,
+                new ValidationResultCacheProperties(), new SimpleMeterRegistry());
+        filing = new PscFilingSummary(FILING_ID, null, "filing etag", PSC_TYPE, null, PSC_ID, null,
+                null);
+        validations = new AtomicInteger();
+        validation = () -> new ValidationStatusError[]{
+                new ValidationStatusError("validation " + validations.incrementAndGet(),
+                        "$.ceased_on", "json-path", "ch:validation")
+        };
+    }
+
+    @Test
+    void getWhenUnchanged() {
+        stubPscEtag("psc etag");
+
+        get(filing);
+        final var errors = get(filing);
+
+        assertThat(validations.get(), is(1));
+        assertThat(errors[0].getError(), is("validation 1"));
+    }
+
+    @Test
+    void getWhenFilingEtagChanged() {
+        stubPscEtag("psc etag");
+
+        get(filing);
+        final var errors = get(new PscFilingSummary(FILING_ID, null, "patched", PSC_TYPE, null,
+                PSC_ID, null, null));
+
+        assertThat(validations.get(), is(2));
+        assertThat(errors[0].getError(), is("validation 2"));
+    }
+
+    @Test
+    void getWhenPscEtagChanged() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PSC_TYPE,
+                PASSTHROUGH_HEADER)).thenReturn(pscDetails);
+        when(pscDetails.getEtag()).thenReturn("psc etag", "psc etag", "changed");
+
+        get(filing);
+        get(filing);
+
+        assertThat(validations.get(), is(2));
+    }
+
+    @Test
+    void getWhenInvalidated() {
+        stubPscEtag("psc etag");
+
+        get(filing);
+        testCache.invalidate(FILING_ID);
+        get(filing);
+
+        assertThat(validations.get(), is(2));
+    }
+
+    @Test
+    void getWhenPscDetailsUnavailable() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PSC_TYPE,
+                PASSTHROUGH_HEADER)).thenThrow(
+                new FilingResourceNotFoundException("stub PSC not found", null));
+
+        get(filing);
+        final var errors = get(filing);
+
+        assertThat(validations.get(), is(2));
+        assertThat(errors[0].getError(), is("validation 2"));
+    }
+
+    private ValidationStatusError[] get(final PscFilingSummary filing) {
+        return testCache.get(FILING_ID, filing, PSC_TYPE, transaction, PASSTHROUGH_HEADER,
+                validation);
+    }
+
+    private void stubPscEtag(final String etag) {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PSC_TYPE,
+                PASSTHROUGH_HEADER)).thenReturn(pscDetails);
+        when(pscDetails.getEtag()).thenReturn(etag);
+    }
+}
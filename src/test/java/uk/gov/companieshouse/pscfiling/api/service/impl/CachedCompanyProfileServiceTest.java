@@ -0,0 +1,171 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.pscfiling.api.config.CompanyProfileCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.exception.CompanyProfileServiceException;
+import uk.gov.companieshouse.pscfiling.api.service.CompanyProfileService;
+
+@ExtendWith(MockitoExtension.class)
+class CachedCompanyProfileServiceTest extends TestBaseService {
+    private static final Instant FIRST_INSTANT = Instant.parse("2022-10-15T09:44:08.108Z");
+
+    @Mock
+    private CompanyProfileService companyProfileService;
+    @Mock
+    private Clock clock;
+    @Mock
+    private Logger logger;
+    @Mock
+    private Transaction transaction;
+
+    private CompanyProfileApi companyProfile;
+    private CompanyProfileApi refreshedCompanyProfile;
+    private Instant now;
+    private SimpleMeterRegistry meterRegistry;
+    private CachedCompanyProfileService testService;
+
+    @BeforeEach
+    void setUp() {
+        now = FIRST_INSTANT;
+        meterRegistry = new SimpleMeterRegistry();
+        testService = new CachedCompanyProfileService(companyProfileService,
+                new CompanyProfileCacheProperties(), clock, Runnable::run, meterRegistry, logger);
+        companyProfile = new CompanyProfileApi();
+        companyProfile.setCompanyName("name");
+        refreshedCompanyProfile = new CompanyProfileApi();
+        refreshedCompanyProfile.setCompanyName("refreshed name");
+        when(clock.instant()).thenAnswer(i -> now);
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+    }
+
+    @Test
+    void getCompanyProfileWhenFresh() {
+        when(companyProfileService.getCompanyProfile(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                companyProfile);
+
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        now = now.plus(Duration.ofSeconds(30));
+        final var profile = testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+
+        assertThat(profile.getCompanyName(), is("name"));
+        assertThat(profile, is(not(sameInstance(companyProfile))));
+        verify(companyProfileService).getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        assertThat(count("miss"), is(1.0));
+        assertThat(count("hit"), is(1.0));
+    }
+
+    @Test
+    void getCompanyProfileWhenCachedForAnotherUser() {
+        when(companyProfileService.getCompanyProfile(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                companyProfile);
+        when(companyProfileService.getCompanyProfile(transaction, "another user")).thenReturn(
+                refreshedCompanyProfile);
+
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        final var profile = testService.getCompanyProfile(transaction, "another user");
+
+        assertThat(profile.getCompanyName(), is("refreshed name"));
+        verify(companyProfileService).getCompanyProfile(transaction, "another user");
+        assertThat(count("miss"), is(2.0));
+    }
+
+    @Test
+    void getCompanyProfileWhenCachedCopyChangedByCaller() {
+        when(companyProfileService.getCompanyProfile(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                companyProfile);
+
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER).setCompanyName("changed");
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER).setCompanyName("changed");
+        final var profile = testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+
+        assertThat(profile.getCompanyName(), is("name"));
+    }
+
+    @Test
+    void getCompanyProfileWhenStaleForAnotherUser() {
+        when(companyProfileService.getCompanyProfile(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                companyProfile);
+        when(companyProfileService.getCompanyProfile(transaction, "another user")).thenReturn(
+                refreshedCompanyProfile);
+
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        now = now.plus(Duration.ofMinutes(2));
+        final var profile = testService.getCompanyProfile(transaction, "another user");
+
+        assertThat(profile.getCompanyName(), is("refreshed name"));
+        verify(companyProfileService).getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        assertThat(count("stale"), is(0.0));
+    }
+
+    @Test
+    void getCompanyProfileWhenStaleRefreshesInBackground() {
+        when(companyProfileService.getCompanyProfile(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                companyProfile, refreshedCompanyProfile);
+
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        now = now.plus(Duration.ofMinutes(2));
+        final var stale = testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        final var refreshed = testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+
+        assertThat(stale.getCompanyName(), is("name"));
+        assertThat(refreshed.getCompanyName(), is("refreshed name"));
+        verify(companyProfileService, times(2)).getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        assertThat(count("stale"), is(1.0));
+        assertThat(count("hit"), is(1.0));
+    }
+
+    @Test
+    void getCompanyProfileWhenExpiredAndUnavailable() {
+        when(companyProfileService.getCompanyProfile(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                companyProfile).thenThrow(
+                new CompanyProfileServiceException("unavailable", new IOException()));
+
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        now = now.plus(Duration.ofMinutes(30));
+        final var profile = testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+
+        assertThat(profile.getCompanyName(), is("name"));
+        assertThat(count("stale"), is(1.0));
+    }
+
+    @Test
+    void getCompanyProfileWhenBeyondStaleIfErrorAndUnavailable() {
+        when(companyProfileService.getCompanyProfile(transaction, PASSTHROUGH_HEADER)).thenReturn(
+                companyProfile).thenThrow(
+                new CompanyProfileServiceException("unavailable", new IOException()));
+
+        testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER);
+        now = now.plus(Duration.ofMinutes(62));
+
+        assertThrows(CompanyProfileServiceException.class,
+                () -> testService.getCompanyProfile(transaction, PASSTHROUGH_HEADER));
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get(CachedCompanyProfileService.METRIC_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
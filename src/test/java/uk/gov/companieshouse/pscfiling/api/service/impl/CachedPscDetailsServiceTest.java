@@ -0,0 +1,132 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.psc.PscApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.pscfiling.api.config.PscDetailsCacheProperties;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
+
+@ExtendWith(MockitoExtension.class)
+class CachedPscDetailsServiceTest extends TestBaseService {
+    private static final String PSC_ID = "654321";
+
+    @Mock
+    private PscDetailsService pscDetailsService;
+    @Mock
+    private Transaction transaction;
+
+    private PscApi pscApi;
+    private PscApi refreshedPscApi;
+    private CachedPscDetailsService testService;
+
+    @BeforeEach
+    void setUp() {
+        testService = new CachedPscDetailsService(pscDetailsService,
+                new PscDetailsCacheProperties(), new SimpleMeterRegistry());
+        pscApi = new PscApi();
+        pscApi.setEtag("etag");
+        refreshedPscApi = new PscApi();
+        refreshedPscApi.setEtag("refreshed etag");
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+    }
+
+    @Test
+    void getPscDetailsWhenCached() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        final var pscDetails = testService.getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+
+        assertThat(pscDetails.getEtag(), is("etag"));
+        assertThat(pscDetails, is(not(sameInstance(pscApi))));
+        verify(pscDetailsService).getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+    }
+
+    @Test
+    void getPscDetailsWhenCachedForAnotherUser() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi);
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                "another user")).thenReturn(refreshedPscApi);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        final var pscDetails = testService.getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, "another user");
+
+        assertThat(pscDetails, is(sameInstance(refreshedPscApi)));
+        verify(pscDetailsService).getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                "another user");
+    }
+
+    @Test
+    void getPscDetailsWhenCachedCopyChangedByCaller() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        pscApi.setEtag("changed");
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER).setEtag("changed");
+        final var pscDetails = testService.getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+
+        assertThat(pscDetails.getEtag(), is("etag"));
+    }
+
+    @Test
+    void refreshPscDetailsReplacesCachedCopy() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi, refreshedPscApi);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        final var refreshed = testService.refreshPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+        final var pscDetails = testService.getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+
+        assertThat(refreshed, is(sameInstance(refreshedPscApi)));
+        assertThat(pscDetails.getEtag(), is("refreshed etag"));
+        verify(pscDetailsService, times(2)).getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+    }
+
+    @Test
+    void refreshPscDetailsWhenPscRemoved() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi)
+                .thenThrow(new FilingResourceNotFoundException("not found"));
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+
+        assertThrows(FilingResourceNotFoundException.class,
+                () -> testService.refreshPscDetails(transaction, PSC_ID,
+                        PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER));
+        assertThrows(FilingResourceNotFoundException.class,
+                () -> testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                        PASSTHROUGH_HEADER));
+    }
+}
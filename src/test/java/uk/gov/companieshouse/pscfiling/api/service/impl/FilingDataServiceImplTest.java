@@ -2,14 +2,25 @@ package uk.gov.companieshouse.pscfiling.api.service.impl;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.net.URI;
 import java.text.MessageFormat;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +30,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.model.psc.NameElementsApi;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.psc.PscApi;
+import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.config.FilingDataConfig;
@@ -30,11 +43,13 @@ import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
 import uk.gov.companieshouse.pscfiling.api.model.dto.IndividualFilingDataDto;
 import uk.gov.companieshouse.pscfiling.api.model.dto.WithIdentificationFilingDataDto;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Identification;
+import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
 import uk.gov.companieshouse.pscfiling.api.model.entity.NameElements;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscCommunal;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 import uk.gov.companieshouse.pscfiling.api.service.FilingDataService;
+import uk.gov.companieshouse.pscfiling.api.service.FilingDescriptionRenderer;
 import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
 import uk.gov.companieshouse.pscfiling.api.service.PscFilingService;
 
@@ -70,16 +85,19 @@ class FilingDataServiceImplTest extends TestBaseService {
     @Mock
     private PscApi pscApi;
     @Mock
-    private FilingDataConfig filingDataConfig;
-    @Mock
     private Logger logger;
     private Transaction transaction;
     private FilingDataService testService;
 
     @BeforeEach
     void setUp() {
+        final var filingDataConfig = new FilingDataConfig();
+
+        filingDataConfig.setPsc07Description(
+                "(PSC07) Notice of ceasing to be a Person of Significant Control for {0} on {1}");
+        filingDataConfig.setMaxConcurrentGenerations(2);
         testService = new FilingDataServiceImpl(pscFilingService, dataMapper, pscDetailsService,
-                filingDataConfig, logger);
+                new FilingDescriptionRenderer(filingDataConfig), filingDataConfig, logger);
         transaction = new Transaction();
         transaction.setId(TRANS_ID);
         transaction.setCompanyNumber(COMPANY_NUMBER);
@@ -120,8 +138,6 @@ class FilingDataServiceImplTest extends TestBaseService {
         when(dataMapper.enhance(pscFiling, PscTypeConstants.INDIVIDUAL, pscApi)).thenReturn(
                 enhancedPscFiling);
         when(dataMapper.map(enhancedPscFiling, PscTypeConstants.INDIVIDUAL)).thenReturn(filingData);
-        when(filingDataConfig.getPsc07Description()).thenReturn(
-                "(PSC07) Notice of ceasing to be a Person of Significant Control for {0} on {1}");
 
         final var filingApi =
                 testService.generatePscFiling(FILING_ID, PscTypeConstants.INDIVIDUAL, transaction,
@@ -191,8 +207,6 @@ class FilingDataServiceImplTest extends TestBaseService {
                 enhancedPscFiling);
         when(dataMapper.map(enhancedPscFiling, PscTypeConstants.CORPORATE_ENTITY)).thenReturn(
                 filingData);
-        when(filingDataConfig.getPsc07Description()).thenReturn(
-                "(PSC07) Notice of ceasing to be a Person of Significant Control for {0} on {1}");
 
         final var filingApi =
                 testService.generatePscFiling(FILING_ID, PscTypeConstants.CORPORATE_ENTITY,
@@ -254,8 +268,6 @@ class FilingDataServiceImplTest extends TestBaseService {
                 enhancedPscFiling);
         when(dataMapper.map(enhancedPscFiling, PscTypeConstants.LEGAL_PERSON)).thenReturn(
                 filingData);
-        when(filingDataConfig.getPsc07Description()).thenReturn(
-                "(PSC07) Notice of ceasing to be a Person of Significant Control for {0} on {1}");
 
         final var filingApi =
                 testService.generatePscFiling(FILING_ID, PscTypeConstants.LEGAL_PERSON, transaction,
@@ -326,8 +338,6 @@ class FilingDataServiceImplTest extends TestBaseService {
                 PASSTHROUGH_HEADER)).thenReturn(pscDetails);
         when(dataMapper.map(enhancedPscFiling, PscTypeConstants.LEGAL_PERSON)).thenReturn(
                 filingDataDto);
-        when(filingDataConfig.getPsc07Description()).thenReturn(
-                "(PSC07) Notice of ceasing to be a Person of Significant Control for {0} on {1}");
 
         final var filingApi =
                 testService.generatePscFiling(FILING_ID, PscTypeConstants.LEGAL_PERSON, transaction,
@@ -354,4 +364,138 @@ class FilingDataServiceImplTest extends TestBaseService {
         assertThat(exception.getMessage(),
                 is("PSC filing not found when generating filing for " + FILING_ID));
     }
-}
\ No newline at end of file
+
+    @Test
+    void generatePscFilingsWhenAllFound() {
+        final var individualSelf = selfLink(INDIVIDUAL, FILING_ID);
+        final var corporateSelf = selfLink(CORPORATE_ENTITY, "corporate-filing");
+        final var individualFiling = PscIndividualFiling.builder()
+                .referencePscId(REF_PSC_ID)
+                .links(new Links(URI.create(individualSelf), null))
+                .build();
+        final var corporateFiling = PscWithIdentificationFiling.builder()
+                .referencePscId("corporate-psc")
+                .links(new Links(URI.create(corporateSelf), null))
+                .build();
+        final var individualData =
+                IndividualFilingDataDto.builder().firstName(FIRSTNAME).lastName(LASTNAME)
+                        .ceasedOn(CEASED_ON_STR).build();
+        final var corporateData = WithIdentificationFilingDataDto.builder()
+                .name(CORPORATE_NAME)
+                .ceasedOn(CEASED_ON_STR)
+                .build();
+
+        transaction.setResources(resources(individualSelf, corporateSelf));
+        // returned out of resource order, as the transaction query may
+        when(pscFilingService.getAllInTransaction(TRANS_ID)).thenReturn(
+                List.of(corporateFiling, individualFiling));
+        when(pscDetailsService.getPscDetails(any(Transaction.class), any(String.class),
+                any(PscTypeConstants.class), any(String.class))).thenReturn(pscApi);
+        when(dataMapper.enhance(individualFiling, PscTypeConstants.INDIVIDUAL, pscApi)).thenReturn(
+                individualFiling);
+        when(dataMapper.enhance(corporateFiling, PscTypeConstants.CORPORATE_ENTITY,
+                pscApi)).thenReturn(corporateFiling);
+        when(dataMapper.map(individualFiling, PscTypeConstants.INDIVIDUAL)).thenReturn(
+                individualData);
+        when(dataMapper.map(corporateFiling, PscTypeConstants.CORPORATE_ENTITY)).thenReturn(
+                corporateData);
+
+        final var filings = testService.generatePscFilings(transaction, PASSTHROUGH_HEADER);
+
+        assertThat(filings.stream().map(FilingApi::getKind).toList(),
+                contains(FilingKind.PSC_CESSATION.getValue() + "#" + INDIVIDUAL,
+                        FilingKind.PSC_CESSATION.getValue() + "#" + CORPORATE_ENTITY));
+        assertThat(filings.get(1).getDescription(),
+                is("(PSC07) Notice of ceasing to be a Person of Significant Control for "
+                        + CORPORATE_NAME + " on 5 October 2022"));
+        verify(pscFilingService).getAllInTransaction(TRANS_ID);
+        verify(pscDetailsService).getPscDetails(transaction, REF_PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+        verify(pscDetailsService).getPscDetails(transaction, "corporate-psc",
+                PscTypeConstants.CORPORATE_ENTITY, PASSTHROUGH_HEADER);
+    }
+
+    @Test
+    void generatePscFilingsWhenMoreThanMaxConcurrent() {
+        final var selfLinks = new ArrayList<String>();
+        final var filings = new ArrayList<PscIndividualFiling>();
+        final var inProgress = new AtomicInteger();
+        final var mostInProgress = new AtomicInteger();
+
+        for (var i = 0; i < 6; i++) {
+            final var self = selfLink(INDIVIDUAL, "filing-" + i);
+
+            selfLinks.add(self);
+            filings.add(PscIndividualFiling.builder()
+                    .referencePscId("psc-" + i)
+                    .links(new Links(URI.create(self), null))
+                    .build());
+        }
+        transaction.setResources(resources(selfLinks.toArray(String[]::new)));
+        when(pscFilingService.getAllInTransaction(TRANS_ID)).thenReturn(List.copyOf(filings));
+        when(pscDetailsService.getPscDetails(any(Transaction.class), any(String.class),
+                any(PscTypeConstants.class), any(String.class))).thenAnswer(i -> {
+            mostInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inProgress.decrementAndGet();
+            return pscApi;
+        });
+        when(dataMapper.enhance(any(PscCommunal.class), any(PscTypeConstants.class),
+                any(PscApi.class))).thenAnswer(i -> i.getArgument(0));
+        when(dataMapper.map(any(PscCommunal.class), any(PscTypeConstants.class))).thenReturn(
+                IndividualFilingDataDto.builder().firstName(FIRSTNAME).lastName(LASTNAME)
+                        .ceasedOn(CEASED_ON_STR).build());
+
+        final var generated = testService.generatePscFilings(transaction, PASSTHROUGH_HEADER);
+
+        assertThat(generated.size(), is(6));
+        assertThat(mostInProgress.get(), is(lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    void generatePscFilingsWhenOneNotFound() {
+        final var individualSelf = selfLink(INDIVIDUAL, FILING_ID);
+        final var individualFiling = PscIndividualFiling.builder()
+                .referencePscId(REF_PSC_ID)
+                .links(new Links(URI.create(individualSelf), null))
+                .build();
+
+        transaction.setResources(resources(individualSelf, selfLink(LEGAL_PERSON, "missing")));
+        when(pscFilingService.getAllInTransaction(TRANS_ID)).thenReturn(
+                List.of(individualFiling));
+
+        final var exception = assertThrows(FilingResourceNotFoundException.class,
+                () -> testService.generatePscFilings(transaction, PASSTHROUGH_HEADER));
+
+        assertThat(exception.getMessage(),
+                is("PSC filing not found when generating filing for missing"));
+        verifyNoInteractions(pscDetailsService);
+    }
+
+    @Test
+    void generatePscFilingsWhenNoPscFilingResources() {
+        transaction.setResources(resources("/transactions/" + TRANS_ID + "/officers/other"));
+
+        final var filings = testService.generatePscFilings(transaction, PASSTHROUGH_HEADER);
+
+        assertThat(filings, is(empty()));
+        verifyNoInteractions(pscFilingService);
+    }
+
+    private static String selfLink(final String pscType, final String filingId) {
+        return "/transactions/" + TRANS_ID + "/persons-with-significant-control/" + pscType + "/"
+                + filingId;
+    }
+
+    private static Map<String, Resource> resources(final String... selfLinks) {
+        final var resources = new LinkedHashMap<String, Resource>();
+
+        for (final var self : selfLinks) {
+            final var resource = new Resource();
+
+            resource.setKind("psc-filing");
+            resources.put(self, resource);
+        }
+        return resources;
+    }
+}
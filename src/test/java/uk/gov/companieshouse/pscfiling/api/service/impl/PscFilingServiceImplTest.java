@@ -3,20 +3,25 @@ package uk.gov.companieshouse.pscfiling.api.service.impl;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.pscfiling.api.model.entity.Links;
+import uk.gov.companieshouse.pscfiling.api.model.entity.PscFilingSummary;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscIndividualFiling;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
 import uk.gov.companieshouse.pscfiling.api.repository.PscFilingRepository;
@@ -106,6 +111,34 @@ class PscFilingServiceImplTest extends TestBaseService {
         assertThat(pscIndividualFiling.isPresent(), is(false));
     }
 
+    @Test
+    void getAllInTransaction() {
+        final var filing = PscIndividualFiling.builder()
+                .build();
+        when(filingRepository.findByTransactionId(TRANS_ID)).thenReturn(List.of(filing));
+
+        final var filings = testService.getAllInTransaction(TRANS_ID);
+
+        assertThat(filings, is(List.of(filing)));
+    }
+
+    @Test
+    void getSummary() {
+        final var summary =
+                new PscFilingSummary(FILING_ID, null, "etag", null, null, null, null, null);
+        final var selfLinkRegex = ArgumentCaptor.forClass(String.class);
+        when(filingRepository.findSummaryByIdAndSelfLink(eq(FILING_ID),
+                selfLinkRegex.capture())).thenReturn(Optional.of(summary));
+
+        final var result = testService.getSummary(FILING_ID, TRANS_ID);
+
+        assertThat(result, is(Optional.of(summary)));
+        final var pattern = Pattern.compile(selfLinkRegex.getValue());
+        final var selfFragment = "/persons-with-significant-control/individual/" + FILING_ID;
+        assertThat(pattern.matcher("/transactions/" + TRANS_ID + selfFragment).find(), is(true));
+        assertThat(pattern.matcher("/transactions/other" + selfFragment).find(), is(false));
+    }
+
     @Test
     void requestMatchesResource() throws URISyntaxException {
         final var links = new Links(new URI("transactions/" + TRANS_ID), new URI("validation_status"));
@@ -116,6 +149,17 @@ class PscFilingServiceImplTest extends TestBaseService {
         assertThat(testService.requestMatchesResourceSelf(request, filing), is(true));
     }
 
+    @Test
+    void requestMatchesResourceSummary() throws URISyntaxException {
+        final var links = new Links(new URI("transactions/" + TRANS_ID), new URI("validation_status"));
+        final var summary =
+                new PscFilingSummary(FILING_ID, links, "etag", null, null, null, null, null);
+
+        when(request.getRequestURI()).thenReturn("transactions/" + TRANS_ID);
+
+        assertThat(testService.requestMatchesResourceSelf(request, summary), is(true));
+    }
+
     @Test
     void requestDoesNotMatchResource() throws URISyntaxException {
         final var links = new Links(new URI("transactions/" + TRANS_ID), new URI("validation_status"));
@@ -1,38 +1,54 @@
 package uk.gov.companieshouse.pscfiling.api.service.impl;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.companieshouse.patch.model.EntityRetrievalResult;
+import org.springframework.validation.FieldError;
 import uk.gov.companieshouse.patch.model.ValidationResult;
 import uk.gov.companieshouse.pscfiling.api.config.PatchServiceProperties;
+import uk.gov.companieshouse.pscfiling.api.error.RetrievalFailureReason;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingPreconditionFailedException;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingUpdateConflictException;
 import uk.gov.companieshouse.pscfiling.api.exception.MergePatchException;
 import uk.gov.companieshouse.pscfiling.api.model.entity.PscWithIdentificationFiling;
-import uk.gov.companieshouse.pscfiling.api.provider.PscWithIdentificationFilingProvider;
 import uk.gov.companieshouse.pscfiling.api.repository.PscWithIdentificationFilingRepository;
+import uk.gov.companieshouse.pscfiling.api.service.FilingResponseCache;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingMergeProcessor;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingPostMergeProcessor;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationFilingService;
 import uk.gov.companieshouse.pscfiling.api.service.PscWithIdentificationPatchValidator;
+import uk.gov.companieshouse.pscfiling.api.service.ValidationResultCache;
 
 @ExtendWith(MockitoExtension.class)
 class PscWithIdentificationFilingServiceImplTest {
 
     public static final String FILING_ID = "id";
+    private static final JsonNode MERGE_PATCH = JsonNodeFactory.instance.objectNode();
     @Spy
     private PscWithIdentificationFilingService testService;
     @Mock
@@ -40,20 +56,26 @@ class PscWithIdentificationFilingServiceImplTest {
     @Mock
     private PatchServiceProperties patchServiceProperties;
     @Mock
-    private PscWithIdentificationFilingProvider pscWithIdentificationFilingProvider;
-    @Mock
     private PscWithIdentificationFilingMergeProcessor mergeProcessor;
     @Mock
     private PscWithIdentificationFilingPostMergeProcessor postMergeProcessor;
     @Mock
     private PscWithIdentificationPatchValidator patchValidator;
+    @Mock
+    private ValidationResultCache validationResultCache;
+    @Mock
+    private FilingResponseCache filingResponseCache;
     private PscWithIdentificationFiling filing;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         testService = new PscWithIdentificationFilingServiceImpl(filingRepository, patchServiceProperties,
-                pscWithIdentificationFilingProvider, mergeProcessor, postMergeProcessor, patchValidator);
-        filing = PscWithIdentificationFiling.builder().etag("etag")
+                mergeProcessor, postMergeProcessor, patchValidator,
+                new FilingPatchMetrics(meterRegistry), validationResultCache,
+                filingResponseCache);
+        filing = PscWithIdentificationFiling.builder().id(FILING_ID).etag("etag")
                 .build();
     }
 
@@ -64,49 +86,175 @@ class PscWithIdentificationFilingServiceImplTest {
     }
 
     @Test
-    void updateFiling() throws IOException {
+    void patchFiling() throws IOException {
+        final var stored = PscWithIdentificationFiling.builder(filing).etag("stored").build();
+        final var original = new Document("etag", "etag");
 
-        when(testService.getMaxRetries()).thenReturn(1);
-        final EntityRetrievalResult<PscWithIdentificationFiling> retrievalResult =
-                new EntityRetrievalResult<>("etag", filing);
-        when(pscWithIdentificationFilingProvider.provide(FILING_ID)).thenReturn(retrievalResult);
-        when(mergeProcessor.mergeEntity(filing, Collections.emptyMap())).thenReturn(filing);
+        when(filingRepository.toDocument(filing)).thenReturn(original,
+                new Document("etag", "changed"));
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
         when(patchValidator.validate(filing)).thenReturn(new ValidationResult());
+        when(filingRepository.updateByIdAndEtag(eq(FILING_ID), eq("etag"), same(original),
+                argThat((PscWithIdentificationFiling f) -> !f.getEtag().equals("etag")))).thenReturn(
+                Optional.of(stored));
 
-        var result = testService.patch(FILING_ID, Collections.emptyMap());
+        final var result = testService.patch(filing, MERGE_PATCH);
 
         verify(postMergeProcessor).onMerge(filing);
-        verify(filingRepository).save(filing);
-        assertThat(result.isSuccess(), is(true));
+        verify(filingRepository, never()).findById(FILING_ID);
+        verify(validationResultCache).invalidate(FILING_ID);
+        verify(filingResponseCache).invalidate(FILING_ID);
+        assertThat(result.patchResult().isSuccess(), is(true));
+        assertThat(result.filing(), is(sameInstance(stored)));
+        assertThat(count(FilingPatchMetrics.CONFLICTS), is(0.0));
+    }
+
+    @Test
+    void patchFilingWhenValidationFails() throws IOException {
+        final var error = new FieldError("patched", "ceasedOn", "bad date");
+
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
+        when(patchValidator.validate(filing)).thenReturn(new ValidationResult(List.of(error)));
 
+        final var result = testService.patch(filing, MERGE_PATCH);
+
+        verifyNoInteractions(postMergeProcessor);
+        verify(filingRepository, never()).updateByIdAndEtag(any(), any(), any(), any());
+        verifyNoInteractions(validationResultCache, filingResponseCache);
+        assertThat(result.patchResult().failedValidation(), is(true));
+        assertThat(result.filing(), is(nullValue()));
     }
 
     @Test
-    void updateFilingWithException() throws IOException {
-        Map<String, Object> map = Collections.emptyMap();
+    void patchFilingWhenRemovedConcurrently() throws IOException {
+        stubChangedDocuments();
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
+        when(patchValidator.validate(filing)).thenReturn(new ValidationResult());
+        when(filingRepository.updateByIdAndEtag(eq(FILING_ID), eq("etag"), any(),
+                any(PscWithIdentificationFiling.class))).thenReturn(Optional.empty());
+        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.empty());
 
-        when(testService.getMaxRetries()).thenReturn(1);
-        final EntityRetrievalResult<PscWithIdentificationFiling> retrievalResult =
-                new EntityRetrievalResult<>("etag", filing);
-        when(pscWithIdentificationFilingProvider.provide(FILING_ID)).thenReturn(retrievalResult);
-        when(mergeProcessor.mergeEntity(filing, Collections.emptyMap())).thenThrow(
-                new IOException("ioe"));
+        final var result = testService.patch(filing, MERGE_PATCH);
 
-        final var exception = assertThrows(MergePatchException.class,
-                () -> testService.patch(FILING_ID, map));
-        verifyNoInteractions(postMergeProcessor, filingRepository);
-        assertThat(exception.getCause().getMessage(), is("ioe"));
+        assertThat(result.patchResult().failedRetrieval(), is(true));
+        assertThat(result.patchResult().getRetrievalFailureReason(),
+                is(RetrievalFailureReason.FILING_NOT_FOUND));
+        assertThat(count(FilingPatchMetrics.CONFLICTS), is(0.0));
+    }
+
+    @Test
+    void patchFilingWhenChangedConcurrently() throws IOException {
+        final var changed = PscWithIdentificationFiling.builder(filing).etag("changed").build();
+        final var stored = PscWithIdentificationFiling.builder(filing).etag("stored").build();
+
+        when(patchServiceProperties.getMaxRetries()).thenReturn(1);
+        stubChangedDocuments();
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
+        when(mergeProcessor.mergeEntity(changed, MERGE_PATCH)).thenReturn(changed);
+        when(patchValidator.validate(any(PscWithIdentificationFiling.class))).thenReturn(new ValidationResult());
+        when(filingRepository.updateByIdAndEtag(eq(FILING_ID), eq("etag"), any(),
+                any(PscWithIdentificationFiling.class))).thenReturn(Optional.empty());
+        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(changed));
+        when(filingRepository.updateByIdAndEtag(eq(FILING_ID), eq("changed"), any(),
+                any(PscWithIdentificationFiling.class))).thenReturn(Optional.of(stored));
+
+        final var result = testService.patch(filing, MERGE_PATCH);
+
+        assertThat(result.patchResult().isSuccess(), is(true));
+        assertThat(result.filing(), is(sameInstance(stored)));
+        assertThat(count(FilingPatchMetrics.CONFLICTS), is(1.0));
+        assertThat(count(FilingPatchMetrics.RETRIES), is(1.0));
+        assertThat(count(FilingPatchMetrics.LOST_UPDATES), is(0.0));
+    }
+
+    @Test
+    void patchFilingWhenRetriesExhausted() throws IOException {
+        final var changed = PscWithIdentificationFiling.builder(filing).etag("changed").build();
+
+        when(patchServiceProperties.getMaxRetries()).thenReturn(0);
+        stubChangedDocuments();
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
+        when(patchValidator.validate(filing)).thenReturn(new ValidationResult());
+        when(filingRepository.updateByIdAndEtag(eq(FILING_ID), eq("etag"), any(),
+                any(PscWithIdentificationFiling.class))).thenReturn(Optional.empty());
+        when(filingRepository.findById(FILING_ID)).thenReturn(Optional.of(changed));
+
+        final var exception = assertThrows(FilingUpdateConflictException.class,
+                () -> testService.patch(filing, MERGE_PATCH));
+
+        assertThat(exception.getMessage(), is(FILING_ID));
+        assertThat(count(FilingPatchMetrics.CONFLICTS), is(1.0));
+        assertThat(count(FilingPatchMetrics.RETRIES), is(0.0));
+        assertThat(count(FilingPatchMetrics.LOST_UPDATES), is(1.0));
+    }
 
+    @Test
+    void patchFilingIfUnchanged() throws IOException {
+        final var stored = PscWithIdentificationFiling.builder(filing).etag("stored").build();
+
+        stubChangedDocuments();
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
+        when(patchValidator.validate(filing)).thenReturn(new ValidationResult());
+        when(filingRepository.updateByIdAndEtag(eq(FILING_ID), eq("etag"), any(),
+                any(PscWithIdentificationFiling.class))).thenReturn(Optional.of(stored));
+
+        final var result = testService.patchIfUnchanged(filing, MERGE_PATCH);
+
+        verify(postMergeProcessor).onMerge(filing);
+        verify(filingResponseCache).invalidate(FILING_ID);
+        assertThat(result.patchResult().isSuccess(), is(true));
+        assertThat(result.filing(), is(sameInstance(stored)));
+        assertThat(count(FilingPatchMetrics.CONFLICTS), is(0.0));
     }
 
     @Test
-    void save() {
+    void patchFilingIfUnchangedWhenChangedConcurrently() throws IOException {
+        stubChangedDocuments();
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
+        when(patchValidator.validate(filing)).thenReturn(new ValidationResult());
+        when(filingRepository.updateByIdAndEtag(eq(FILING_ID), eq("etag"), any(),
+                any(PscWithIdentificationFiling.class))).thenReturn(Optional.empty());
 
-        var result = testService.save(filing, "etag");
-        verify(filingRepository).save(
-                argThat((PscWithIdentificationFiling f) -> f.getEtag().equals("etag")));
-        assertThat(result, is(1));
+        final var exception = assertThrows(FilingPreconditionFailedException.class,
+                () -> testService.patchIfUnchanged(filing, MERGE_PATCH));
 
+        assertThat(exception.getMessage(), is(FILING_ID));
+        verify(filingRepository, never()).findById(FILING_ID);
+        verifyNoInteractions(validationResultCache, filingResponseCache);
+        assertThat(count(FilingPatchMetrics.CONFLICTS), is(1.0));
+        assertThat(count(FilingPatchMetrics.RETRIES), is(0.0));
+        assertThat(count(FilingPatchMetrics.LOST_UPDATES), is(0.0));
+    }
+
+    @Test
+    void patchFilingWhenUnchanged() throws IOException {
+        final var original = new Document("etag", "etag");
+
+        when(filingRepository.toDocument(filing)).thenReturn(original,
+                new Document("etag", "etag"));
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenReturn(filing);
+        when(patchValidator.validate(filing)).thenReturn(new ValidationResult());
+
+        final var result = testService.patch(filing, MERGE_PATCH);
+
+        verifyNoInteractions(postMergeProcessor);
+        verify(filingRepository, never()).updateByIdAndEtag(any(), any(), any(), any());
+        assertThat(result.patchResult().isSuccess(), is(true));
+        assertThat(result.filing(), is(sameInstance(filing)));
+        assertThat(result.filing().getEtag(), is("etag"));
+        verifyNoInteractions(validationResultCache, filingResponseCache);
+        assertThat(count(FilingPatchMetrics.UNCHANGED), is(1.0));
+    }
+
+    @Test
+    void patchFilingWithException() throws IOException {
+        when(mergeProcessor.mergeEntity(filing, MERGE_PATCH)).thenThrow(new IOException("ioe"));
+
+        final var exception = assertThrows(MergePatchException.class,
+                () -> testService.patch(filing, MERGE_PATCH));
+        verifyNoInteractions(postMergeProcessor);
+        verify(filingRepository, never()).updateByIdAndEtag(any(), any(), any(), any());
+        assertThat(exception.getCause().getMessage(), is("ioe"));
     }
 
     @Test
@@ -117,4 +265,15 @@ class PscWithIdentificationFilingServiceImplTest {
         assertThat(testService.getMaxRetries(), is(123));
 
     }
-}
\ No newline at end of file
+
+    private void stubChangedDocuments() {
+        final var calls = new AtomicInteger();
+
+        when(filingRepository.toDocument(any(PscWithIdentificationFiling.class))).thenAnswer(
+                i -> new Document("version", calls.incrementAndGet()));
+    }
+
+    private double count(final String metric) {
+        return meterRegistry.get(metric).counter().count();
+    }
+}
@@ -0,0 +1,176 @@
+package uk.gov.companieshouse.pscfiling.api.service.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.api.model.psc.PscApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.pscfiling.api.exception.FilingResourceNotFoundException;
+import uk.gov.companieshouse.pscfiling.api.model.PscTypeConstants;
+import uk.gov.companieshouse.pscfiling.api.service.PscDetailsService;
+
+@ExtendWith(MockitoExtension.class)
+class RequestScopedPscDetailsServiceTest extends TestBaseService {
+    private static final String PSC_ID = "654321";
+
+    @Mock
+    private PscDetailsService pscDetailsService;
+    @Mock
+    private Transaction transaction;
+    @Mock
+    private PscApi pscApi;
+    @Mock
+    private PscApi refreshedPscApi;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestScopedPscDetailsService testService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        testService = new RequestScopedPscDetailsService(pscDetailsService, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getPscDetailsWhenRepeatedInSameRequest() {
+        bindRequest();
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi);
+
+        final var first = testService.getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+        final var second = testService.getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+
+        assertThat(first, is(sameInstance(pscApi)));
+        assertThat(second, is(sameInstance(pscApi)));
+        verify(pscDetailsService).getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        assertThat(count("hit"), is(1.0));
+        assertThat(count("miss"), is(1.0));
+    }
+
+    @Test
+    void getPscDetailsWhenFailedInSameRequest() {
+        bindRequest();
+        final var notFound = new FilingResourceNotFoundException("PSC Details not found");
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenThrow(notFound);
+
+        final var first = assertThrows(FilingResourceNotFoundException.class,
+                () -> testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                        PASSTHROUGH_HEADER));
+        final var second = assertThrows(FilingResourceNotFoundException.class,
+                () -> testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                        PASSTHROUGH_HEADER));
+
+        assertThat(first, is(sameInstance(notFound)));
+        assertThat(second, is(sameInstance(notFound)));
+        verify(pscDetailsService).getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        assertThat(count("hit"), is(1.0));
+        assertThat(count("miss"), is(1.0));
+    }
+
+    @Test
+    void getPscDetailsWhenDifferentPscType() {
+        bindRequest();
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.LEGAL_PERSON,
+                PASSTHROUGH_HEADER);
+
+        verify(pscDetailsService).getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        verify(pscDetailsService).getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.LEGAL_PERSON, PASSTHROUGH_HEADER);
+        assertThat(count("hit"), is(0.0));
+        assertThat(count("miss"), is(2.0));
+    }
+
+    @Test
+    void getPscDetailsWhenNotInRequest() {
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+
+        verify(pscDetailsService, times(2)).getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+    }
+
+    @Test
+    void getPscDetailsWhenNewRequest() {
+        bindRequest();
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        bindRequest();
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+
+        verify(pscDetailsService, times(2)).getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+    }
+
+    @Test
+    void refreshPscDetailsReplacesRequestCopy() {
+        bindRequest();
+        when(transaction.getCompanyNumber()).thenReturn(COMPANY_NUMBER);
+        when(pscDetailsService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(pscApi);
+        when(pscDetailsService.refreshPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER)).thenReturn(refreshedPscApi);
+
+        testService.getPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        testService.refreshPscDetails(transaction, PSC_ID, PscTypeConstants.INDIVIDUAL,
+                PASSTHROUGH_HEADER);
+        final var pscDetails = testService.getPscDetails(transaction, PSC_ID,
+                PscTypeConstants.INDIVIDUAL, PASSTHROUGH_HEADER);
+
+        assertThat(pscDetails, is(sameInstance(refreshedPscApi)));
+    }
+
+    private static void bindRequest() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get(RequestScopedPscDetailsService.METRIC_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
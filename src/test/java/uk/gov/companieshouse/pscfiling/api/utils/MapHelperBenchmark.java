@@ -0,0 +1,134 @@
+package uk.gov.companieshouse.pscfiling.api.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.text.SimpleDateFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import uk.gov.companieshouse.pscfiling.api.model.dto.IndividualFilingDataDto;
+import uk.gov.companieshouse.pscfiling.api.model.dto.WithIdentificationFilingDataDto;
+
+/**
+ * JMH benchmark of converting the filing data DTOs to the property maps sent to the filing
+ * resource handler: {@link MapHelper#convertFilingData}, which {@code FilingDataServiceImpl}
+ * uses, against {@link MapHelper#convertObject} and against the original {@code MapHelper}
+ * conversion, reproduced in {@link #baselineConvertObject}.
+ * <p>
+ * The GC profiler reports the bytes allocated per conversion ({@code gc.alloc.rate.norm})
+ * alongside the time taken.
+ * </p>
+ * Run with {@code -Dbenchmark=true}; the JMH results are printed with the test output.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapHelperBenchmark {
+    // the original MapHelper mapper: built lazily on first use, then shared
+    private static ObjectMapper baselineMapper = null;
+
+    private IndividualFilingDataDto individualData;
+    private WithIdentificationFilingDataDto withIdentificationData;
+
+    @Setup
+    public void setUp() {
+        individualData = IndividualFilingDataDto.builder()
+                .title("MR")
+                .firstName("JOE")
+                .otherForenames("TOM")
+                .lastName("BLOGGS")
+                .ceasedOn("2022-10-05")
+                .registerEntryDate("2022-10-05")
+                .build();
+        withIdentificationData = WithIdentificationFilingDataDto.builder()
+                .name("corporate name")
+                .ceasedOn("2022-10-05")
+                .registerEntryDate("2022-10-05")
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, Object> individualConvertFilingData() {
+        return MapHelper.convertFilingData(individualData);
+    }
+
+    @Benchmark
+    public Map<String, Object> individualConvertObject() {
+        return MapHelper.convertObject(individualData, PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    @Benchmark
+    public Map<String, Object> individualBaseline() {
+        return baselineConvertObject(individualData, PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    @Benchmark
+    public Map<String, Object> withIdentificationConvertFilingData() {
+        return MapHelper.convertFilingData(withIdentificationData);
+    }
+
+    @Benchmark
+    public Map<String, Object> withIdentificationConvertObject() {
+        return MapHelper.convertObject(withIdentificationData,
+                PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    @Benchmark
+    public Map<String, Object> withIdentificationBaseline() {
+        return baselineConvertObject(withIdentificationData, PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    /**
+     * The original {@code MapHelper.convertObject}, unchanged.
+     */
+    private static Map<String, Object> baselineConvertObject(final Object obj,
+            final PropertyNamingStrategy namingStrategy) {
+        if (baselineMapper == null) {
+            baselineMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                    .setPropertyNamingStrategy(namingStrategy)
+                    .setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
+        }
+
+        return baselineMapper.convertValue(obj, new TypeReference<>() {
+        });
+    }
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        final var results = new Runner(new OptionsBuilder()
+                .include(MapHelperBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        assertThat(results, is(not(empty())));
+    }
+}
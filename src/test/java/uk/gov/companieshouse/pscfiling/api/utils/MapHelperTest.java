@@ -0,0 +1,73 @@
+package uk.gov.companieshouse.pscfiling.api.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscfiling.api.model.dto.IndividualFilingDataDto;
+import uk.gov.companieshouse.pscfiling.api.model.dto.WithIdentificationFilingDataDto;
+
+class MapHelperTest {
+
+    private final IndividualFilingDataDto filingData = IndividualFilingDataDto.builder()
+            .firstName("Joe")
+            .lastName("Bloggs")
+            .ceasedOn("2022-10-05")
+            .build();
+
+    @Test
+    void convertObjectWhenSnakeCase() {
+        final var map = MapHelper.convertObject(filingData, PropertyNamingStrategies.SNAKE_CASE);
+
+        assertThat(map, is(Map.of("first_name", "Joe", "last_name", "Bloggs", "ceased_on",
+                "2022-10-05")));
+    }
+
+    @Test
+    void convertObjectHonoursEachNamingStrategy() {
+        MapHelper.convertObject(filingData, PropertyNamingStrategies.SNAKE_CASE);
+
+        final var map = MapHelper.convertObject(filingData, PropertyNamingStrategies.KEBAB_CASE);
+
+        assertThat(map, is(Map.of("first-name", "Joe", "last-name", "Bloggs", "ceased-on",
+                "2022-10-05")));
+    }
+
+    @Test
+    void convertFilingDataWhenIndividual() {
+        final var fullData = IndividualFilingDataDto.builder(filingData)
+                .title("MR")
+                .otherForenames("TOM")
+                .dateOfBirth("1970-01-01")
+                .registerEntryDate("2022-10-06")
+                .build();
+
+        assertThat(MapHelper.convertFilingData(fullData),
+                is(MapHelper.convertObject(fullData, PropertyNamingStrategies.SNAKE_CASE)));
+        assertThat(MapHelper.convertFilingData(filingData),
+                is(MapHelper.convertObject(filingData, PropertyNamingStrategies.SNAKE_CASE)));
+    }
+
+    @Test
+    void convertFilingDataWhenWithIdentification() {
+        final var partialData = WithIdentificationFilingDataDto.builder()
+                .name("corporate name")
+                .ceasedOn("2022-10-05")
+                .build();
+        final var fullData = WithIdentificationFilingDataDto.builder(partialData)
+                .countryRegistered("UK")
+                .placeRegistered("Cardiff")
+                .registrationNumber("12345678")
+                .legalAuthority("Companies Act")
+                .legalForm("Limited")
+                .registerEntryDate("2022-10-06")
+                .build();
+
+        assertThat(MapHelper.convertFilingData(fullData),
+                is(MapHelper.convertObject(fullData, PropertyNamingStrategies.SNAKE_CASE)));
+        assertThat(MapHelper.convertFilingData(partialData),
+                is(MapHelper.convertObject(partialData, PropertyNamingStrategies.SNAKE_CASE)));
+    }
+}
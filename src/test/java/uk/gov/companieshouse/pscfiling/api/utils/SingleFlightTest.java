@@ -0,0 +1,122 @@
+package uk.gov.companieshouse.pscfiling.api.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+    private static final String KEY = "key";
+
+    private SingleFlight<String, String> testSingleFlight;
+    private ExecutorService executor;
+    private AtomicInteger calls;
+    private CountDownLatch started;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        testSingleFlight = new SingleFlight<>();
+        executor = Executors.newFixedThreadPool(2);
+        calls = new AtomicInteger();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void executeWhenCallInFlight() throws Exception {
+        final var first = executor.submit(() -> testSingleFlight.execute(KEY, blockingCall(
+                () -> "result")));
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+        final var second = submitWaitingCaller();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is("result"));
+        assertThat(second.get(5, TimeUnit.SECONDS), is("result"));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void executeWhenCallInFlightFails() throws Exception {
+        final var failure = new IllegalStateException("upstream failed");
+        final var first = executor.submit(() -> testSingleFlight.execute(KEY, blockingCall(() -> {
+            throw failure;
+        })));
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+        final var second = submitWaitingCaller();
+        release.countDown();
+
+        final var firstThrown = assertThrows(ExecutionException.class,
+                () -> first.get(5, TimeUnit.SECONDS));
+        final var secondThrown = assertThrows(ExecutionException.class,
+                () -> second.get(5, TimeUnit.SECONDS));
+        assertThat(firstThrown.getCause(), is(sameInstance(failure)));
+        assertThat(secondThrown.getCause(), is(sameInstance(failure)));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void executeWhenNoCallInFlight() {
+        testSingleFlight.execute(KEY, () -> "first" + calls.incrementAndGet());
+        final var result = testSingleFlight.execute(KEY, () -> "second" + calls.incrementAndGet());
+
+        assertThat(result, is("second2"));
+    }
+
+    @Test
+    void executeWhenKeyNull() {
+        final var result = testSingleFlight.execute(null, () -> "result");
+
+        assertThat(result, is("result"));
+    }
+
+    private Supplier<String> blockingCall(final Supplier<String> call) {
+        return () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return call.get();
+        };
+    }
+
+    private Future<String> submitWaitingCaller() throws InterruptedException {
+        final var caller = new AtomicReference<Thread>();
+        final var future = executor.submit(() -> {
+            caller.set(Thread.currentThread());
+            return testSingleFlight.execute(KEY, () -> "second caller" + calls.incrementAndGet());
+        });
+
+        // wait until the second caller is parked on the call in flight
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline && (caller.get() == null
+                || caller.get().getState() != Thread.State.WAITING)) {
+            Thread.sleep(1);
+        }
+        return future;
+    }
+}
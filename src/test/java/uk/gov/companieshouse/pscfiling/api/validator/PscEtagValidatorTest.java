@@ -30,6 +30,8 @@ class PscEtagValidatorTest {
     @Mock
     private PscApi pscApi;
     @Mock
+    private PscApi refreshedPscApi;
+    @Mock
     private Transaction transaction;
     @Mock
     private PscIndividualDto dto;
@@ -73,6 +75,8 @@ class PscEtagValidatorTest {
         var fieldError = new FieldError("object", "reference_etag", ETAG, false,
                 new String[]{null, "notMatch.reference_etag"}, null, "not-match default message");
         when(pscApi.getEtag()).thenReturn("some other etag value");
+        when(pscDetailsService.refreshPscDetails(transaction, PSC_ID, pscType,
+                passthroughHeader)).thenReturn(pscApi);
         when(validation.get("etag-not-match")).thenReturn("not-match default message");
 
         testValidator.validate(
@@ -81,5 +85,18 @@ class PscEtagValidatorTest {
         assertThat(errors.stream().findFirst().orElseThrow(), equalTo(fieldError));
         assertThat(errors, contains(fieldError));
     }
+
+    @Test
+    void validateWhenEtagMatchesAfterRefresh() {
+        when(refreshedPscApi.getEtag()).thenReturn(ETAG);
+        when(pscApi.getEtag()).thenReturn("stale etag value");
+        when(pscDetailsService.refreshPscDetails(transaction, PSC_ID, pscType,
+                passthroughHeader)).thenReturn(refreshedPscApi);
+
+        testValidator.validate(
+                new FilingValidationContext<>(dto, errors, transaction, pscType, passthroughHeader));
+
+        assertThat(errors, is(empty()));
+    }
 }
 